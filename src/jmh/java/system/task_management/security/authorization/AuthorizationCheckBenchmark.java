@@ -0,0 +1,85 @@
+package system.task_management.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.model.Permission;
+import system.task_management.security.model.RoleUser;
+import system.task_management.security.model.UserAccountDetails;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request authorization cost: the former path (authorities rebuilt with a stream,
+ * {@code @PreAuthorize("hasAuthority(...)")} evaluated as SpEL) against the bitmask path.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorizationCheckBenchmark {
+
+    private DefaultMethodSecurityExpressionHandler expressionHandler;
+    private Expression hasReadAuthority;
+    private PermissionAuthorizationManager permissionAuthorizationManager;
+    private MethodInvocation invocation;
+    private Authentication authentication;
+    private int adminMask;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        hasReadAuthority = expressionHandler.getExpressionParser().parseExpression("hasAuthority('permission:read')");
+        permissionAuthorizationManager = new PermissionAuthorizationManager();
+
+        SecuredTarget target = new SecuredTarget();
+        invocation = new SimpleMethodInvocation(target, SecuredTarget.class.getMethod("read"));
+
+        adminMask = RoleUser.ADMIN.getPermissionMask();
+        UserAccountDetails details = UserAccountDetails.fromClaims(
+                "admin@mail.com", RoleUser.ADMIN, adminMask, UserAccountStatus.ACTIVE);
+        authentication = new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities());
+    }
+
+    @Benchmark
+    public Set<SimpleGrantedAuthority> legacyAuthoritiesFromStream() {
+        Set<SimpleGrantedAuthority> authorities = RoleUser.ADMIN.getPermissions().stream()
+                .map(permission -> new SimpleGrantedAuthority(permission.getPermission()))
+                .collect(Collectors.toSet());
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + RoleUser.ADMIN.name()));
+        return authorities;
+    }
+
+    @Benchmark
+    public Object precomputedAuthoritiesFromMask() {
+        return RoleUser.ADMIN.getAuthorities(adminMask);
+    }
+
+    @Benchmark
+    public boolean spelPreAuthorize() {
+        EvaluationContext context = expressionHandler.createEvaluationContext(() -> authentication, invocation);
+        return ExpressionUtils.evaluateAsBoolean(hasReadAuthority, context);
+    }
+
+    @Benchmark
+    public boolean bitmaskRequiresPermission() {
+        return permissionAuthorizationManager.check(() -> authentication, invocation).isGranted();
+    }
+
+    public static class SecuredTarget {
+
+        @RequiresPermission(Permission.READ)
+        public void read() {
+        }
+    }
+}
@@ -3,10 +3,19 @@ package system.task_management;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import system.task_management.model.properties.BulkProperties;
+import system.task_management.model.properties.PagingProperties;
 import system.task_management.model.properties.RedisProperties;
+import system.task_management.model.properties.TaskCacheProperties;
+import system.task_management.model.properties.UserDirectoryProperties;
+import system.task_management.security.configuration.PasswordProperties;
 import system.task_management.security.jwt.JwtProperties;
 
-@EnableConfigurationProperties({RedisProperties.class, JwtProperties.class})
+@EnableScheduling
+@EnableConfigurationProperties({RedisProperties.class, JwtProperties.class, PasswordProperties.class,
+		PagingProperties.class, TaskCacheProperties.class, UserDirectoryProperties.class,
+		BulkProperties.class})
 @SpringBootApplication(scanBasePackages = "system.task_management")
 public class TaskManagementApplication {
 
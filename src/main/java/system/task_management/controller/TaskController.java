@@ -1,23 +1,47 @@
 package system.task_management.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import system.task_management.model.CommentTimelineResponse;
+import system.task_management.model.CursorPageResponse;
 import system.task_management.model.PageResponse;
+import system.task_management.model.TaskSearchResponse;
 import system.task_management.model.dto.*;
+import system.task_management.model.enums.PageCountMode;
+import system.task_management.model.enums.TaskFileFormat;
 import system.task_management.model.enums.TaskPriority;
 import system.task_management.model.enums.TaskStatus;
+import system.task_management.security.authorization.RequiresPermission;
+import system.task_management.security.model.Permission;
 import system.task_management.service.task.OurTaskService;
+import system.task_management.service.task.TaskBulkService;
+import system.task_management.service.task.TaskExportService;
+import system.task_management.service.task.TaskImportService;
+import system.task_management.util.TaskETags;
 import system.task_management.util.UtilStandard;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 
 @Tag(name = "Tasks", description = "Операции с задачами")
 @RestController
@@ -26,6 +50,9 @@ import java.util.List;
 public class TaskController {
 
     private final OurTaskService ourTaskServiceImpl;
+    private final TaskBulkService taskBulkService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
 
     @Operation(summary = "Создать новую задачу", description = "Позволяет администратору создать задачу", tags = "Tasks")
     @ApiResponses({
@@ -58,20 +85,65 @@ public class TaskController {
     })
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/filters")
-    public PageResponse<OurTaskResponseDto> getTasksByFilters(@RequestBody TaskFilterDto taskFilterDto) {
-        return PageResponse.of(ourTaskServiceImpl.getTasksByFilters(taskFilterDto));
+    public PageResponse<OurTaskResponseDto> getTasksByFilters(
+            @RequestBody TaskFilterDto taskFilterDto,
+            @Parameter(description = "EXACT - точный COUNT, ESTIMATED - оценка, NONE - только признак следующей страницы")
+            @RequestParam(name = "count", defaultValue = "EXACT") PageCountMode countMode
+    ) {
+        return ourTaskServiceImpl.getTasksByFilters(taskFilterDto, countMode);
+    }
+
+    @Operation(summary = "Получить задачи по фильтрам курсором",
+            description = "Keyset-пагинация по (createdAt, id): без COUNT и без OFFSET, любая страница стоит как первая. "
+                    + "Для следующей страницы передайте nextCursor из ответа", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Фильтр выполнен успешно"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/filters/scroll")
+    public CursorPageResponse<OurTaskResponseDto> scrollTasksByFilters(
+            @RequestBody TaskFilterDto taskFilterDto,
+            @RequestParam(name = "cursor", required = false) String cursor
+    ) {
+        return ourTaskServiceImpl.scrollTasksByFilters(taskFilterDto, cursor);
+    }
+
+    @Operation(summary = "Полнотекстовый поиск задач",
+            description = "Ищет по названию, описанию и комментариям, сортирует по релевантности и подсвечивает "
+                    + "совпадения тегом <mark>. Для следующей страницы передайте nextCursor из ответа. "
+                    + "truncated=true: совпадений слишком много, самые слабые отброшены — уточните запрос",
+            tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Поиск выполнен"),
+            @ApiResponse(responseCode = "400", description = "Пустой запрос или некорректный курсор")
+    })
+    @RequiresPermission(Permission.READ)
+    @GetMapping("/search")
+    public TaskSearchResponse searchTasks(
+            @RequestParam("q") @NotBlank @Size(max = 200) String query,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(name = "cursor", required = false) String cursor
+    ) {
+        return ourTaskServiceImpl.searchTasks(query, size, cursor);
     }
 
     @Operation(summary = "Получить задачу по ID",
             description = "Доступен для пользователей с правом чтения задач", tags = "Tasks")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Задача найдена"),
+            @ApiResponse(responseCode = "304", description = "Задача не изменилась с версии из If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Задача не найдена")
     })
-    @PreAuthorize("hasAuthority('permission:read')")
+    @RequiresPermission(Permission.READ)
     @GetMapping("/{id}")
-    public OurTaskResponseDto getTaskById(@PathVariable @NotNull @Min(1) Long id) {
-        return ourTaskServiceImpl.getTaskById(id);
+    public ResponseEntity<OurTaskResponseDto> getTaskById(@PathVariable @NotNull @Min(1) Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(TaskETags.task(id, ourTaskServiceImpl.getTaskVersion(id)))) {
+            return null;
+        }
+        OurTaskResponseDto task = ourTaskServiceImpl.getTaskById(id);
+        return ResponseEntity.ok().eTag(TaskETags.task(id, task.version())).body(task);
     }
 
     @Operation(summary = "Назначить исполнителя на задачу",
@@ -100,7 +172,7 @@ public class TaskController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Комментарий добавлен")
     })
-    @PreAuthorize("hasAuthority('permission:comment')")
+    @RequiresPermission(Permission.COMMENT)
     @PutMapping("/{id}/comments/add")
     public OurTaskResponseDto addComment(
             @PathVariable("id") @NotNull @Min(1) Long taskId,
@@ -110,19 +182,74 @@ public class TaskController {
         return ourTaskServiceImpl.addComment(email, taskId, comment);
     }
 
+    @Operation(summary = "Добавить комментарий и получить только его",
+            description = "Не загружает задачу и её комментарии: время не зависит от их числа. "
+                    + "Комментировать могут исполнители задачи и администратор", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Комментарий добавлен"),
+            @ApiResponse(responseCode = "403", description = "Пользователь не исполнитель задачи"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена")
+    })
+    @RequiresPermission(Permission.COMMENT)
+    @PostMapping("/{id}/comments")
+    public ResponseEntity<CommentResponseDto> appendComment(
+            @PathVariable("id") @NotNull @Min(1) Long taskId,
+            @RequestParam("comment") @NotBlank String comment
+    ) {
+        String email = UtilStandard.getCurrentUserEmail();
+        return ResponseEntity.status(HttpStatus.CREATED).body(ourTaskServiceImpl.appendComment(email, taskId, comment));
+    }
+
     @Operation(summary = "Получить комментарии к задаче",
             description = "С пагинацией. Нужно делать отдельный запрос на фронте", tags = "Tasks")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Комментарии получены")
+            @ApiResponse(responseCode = "200", description = "Комментарии получены"),
+            @ApiResponse(responseCode = "304", description = "Комментарии не изменились с версии из If-None-Match"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена")
     })
-    @PreAuthorize("hasAuthority('permission:comment')")
+    @RequiresPermission(Permission.COMMENT)
     @GetMapping("/{id}/comments")
-    public PageResponse<CommentResponseDto> getTaskComments(
+    public ResponseEntity<PageResponse<CommentResponseDto>> getTaskComments(
             @PathVariable("id") @NotNull @Min(1) Long taskId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "10") @Min(1) int size
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @Parameter(description = "EXACT - точный COUNT, ESTIMATED - оценка, NONE - только признак следующей страницы")
+            @RequestParam(name = "count", defaultValue = "EXACT") PageCountMode countMode,
+            WebRequest request
+    ) {
+        // Read before the page: a concurrent comment may make the tag older than the body, never newer.
+        String eTag = TaskETags.comments(taskId, ourTaskServiceImpl.getTaskVersion(taskId));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(ourTaskServiceImpl.getTaskComments(taskId, page, size, countMode));
+    }
+
+    @Operation(summary = "Лента комментариев задачи",
+            description = "Keyset-пагинация по (createdAt, id) без COUNT и без загрузки задачи. Без курсора - самые "
+                    + "новые комментарии, before - более старые, after - добавленные позже (для опроса). "
+                    + "Курсоры берутся из olderCursor и newerCursor ответа", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Комментарии получены"),
+            @ApiResponse(responseCode = "304", description = "Комментарии не изменились с версии из If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или переданы оба курсора"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена")
+    })
+    @RequiresPermission(Permission.COMMENT)
+    @GetMapping("/{id}/comments/timeline")
+    public ResponseEntity<CommentTimelineResponse> getCommentTimeline(
+            @PathVariable("id") @NotNull @Min(1) Long taskId,
+            @RequestParam(name = "before", required = false) String before,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            WebRequest request
     ) {
-        return PageResponse.of(ourTaskServiceImpl.getTaskComments(taskId, page, size));
+        // Same tag as the paged comments: unchanged comments answer a poll with 304 and no query.
+        String eTag = TaskETags.comments(taskId, ourTaskServiceImpl.getTaskVersion(taskId));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(ourTaskServiceImpl.getCommentTimeline(taskId, before, after, size));
     }
 
     @Operation(summary = "Удалить комментарий",
@@ -131,7 +258,7 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Комментарий удален"),
             @ApiResponse(responseCode = "403", description = "Нет доступа к удалению комментария")
     })
-    @PreAuthorize("hasAuthority('permission:comment')")
+    @RequiresPermission(Permission.COMMENT)
     @DeleteMapping("{id}/comments/remove")
     public OurTaskResponseDto removeComment(
             @PathVariable("id") @NotNull @Min(1) Long taskId,
@@ -175,4 +302,130 @@ public class TaskController {
             @RequestParam("priority") @NotNull TaskPriority priority) {
         return ourTaskServiceImpl.setPriority(taskId, priority);
     }
+
+    @Operation(summary = "Изменить статус задачи по версии",
+            description = "Один UPDATE без загрузки задачи. В If-Match передайте ETag из GET /{id}; "
+                    + "в ответе ETag новой версии", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Статус задачи изменен"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена"),
+            @ApiResponse(responseCode = "409", description = "Задача изменена после чтения, в ETag текущая версия"),
+            @ApiResponse(responseCode = "428", description = "Не передан If-Match")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<Void> updateStatus(
+            @PathVariable("id") @NotNull @Min(1) Long taskId,
+            @RequestParam("status") @NotNull TaskStatus status,
+            @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch
+    ) {
+        long version = ourTaskServiceImpl.updateStatus(taskId, status, TaskETags.parseTaskVersion(taskId, ifMatch));
+        return ResponseEntity.noContent().eTag(TaskETags.task(taskId, version)).build();
+    }
+
+    @Operation(summary = "Изменить приоритет задачи по версии",
+            description = "Один UPDATE без загрузки задачи. В If-Match передайте ETag из GET /{id}; "
+                    + "в ответе ETag новой версии", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Приоритет изменен"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена"),
+            @ApiResponse(responseCode = "409", description = "Задача изменена после чтения, в ETag текущая версия"),
+            @ApiResponse(responseCode = "428", description = "Не передан If-Match")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PatchMapping("/{id}/priority")
+    public ResponseEntity<Void> updatePriority(
+            @PathVariable("id") @NotNull @Min(1) Long taskId,
+            @RequestParam("priority") @NotNull TaskPriority priority,
+            @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch
+    ) {
+        long version = ourTaskServiceImpl.updatePriority(taskId, priority, TaskETags.parseTaskVersion(taskId, ifMatch));
+        return ResponseEntity.noContent().eTag(TaskETags.task(taskId, version)).build();
+    }
+
+    @Operation(summary = "Массово изменить статус задач",
+            description = "Задачи выбираются списком taskIds или фильтром filter. Изменения выполняются пачками "
+                    + "в отдельных транзакциях, в ответе результат по каждой задаче", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Запрос обработан, см. результат по задачам"),
+            @ApiResponse(responseCode = "400", description = "Некорректный выбор задач или не указан статус")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/status")
+    public BulkTaskResultDto bulkSetStatus(@RequestBody @NotNull BulkTaskRequestDto request) {
+        return taskBulkService.setStatus(request);
+    }
+
+    @Operation(summary = "Массово изменить приоритет задач",
+            description = "Задачи выбираются списком taskIds или фильтром filter", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Запрос обработан, см. результат по задачам"),
+            @ApiResponse(responseCode = "400", description = "Некорректный выбор задач или не указан приоритет")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/priority")
+    public BulkTaskResultDto bulkSetPriority(@RequestBody @NotNull BulkTaskRequestDto request) {
+        return taskBulkService.setPriority(request);
+    }
+
+    @Operation(summary = "Массово назначить исполнителей",
+            description = "Назначает всех пользователей из userIds на каждую выбранную задачу. "
+                    + "Уже назначенные пары пропускаются", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Запрос обработан, см. результат по задачам"),
+            @ApiResponse(responseCode = "400", description = "Некорректный выбор задач или пустой userIds"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/assign")
+    public BulkTaskResultDto bulkAssignPerformers(@RequestBody @NotNull BulkTaskRequestDto request) {
+        return taskBulkService.assignPerformers(request);
+    }
+
+    @Operation(summary = "Импортировать задачи из NDJSON",
+            description = "Одна задача (как в POST /api/v1/tasks) на строку. Тело читается потоком, задачи с уже "
+                    + "существующим названием пропускаются, ошибки возвращаются по номеру строки", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Импорт выполнен, см. счётчики и ошибки по строкам"),
+            @ApiResponse(responseCode = "403", description = "Нет доступа")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public TaskImportResultDto importTasksNdjson(InputStream body) {
+        return taskImportService.importTasks(body, TaskFileFormat.NDJSON);
+    }
+
+    @Operation(summary = "Импортировать задачи из CSV",
+            description = "Первая строка - заголовок с колонками authorEmail, title, description, priority. "
+                    + "Тело читается потоком, задачи с уже существующим названием пропускаются", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Импорт выполнен, см. счётчики и ошибки по строкам"),
+            @ApiResponse(responseCode = "400", description = "Нет заголовка или в нём не хватает колонок"),
+            @ApiResponse(responseCode = "403", description = "Нет доступа")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public TaskImportResultDto importTasksCsv(InputStream body) {
+        return taskImportService.importTasks(body, TaskFileFormat.CSV);
+    }
+
+    @Operation(summary = "Экспортировать задачи по фильтрам",
+            description = "Отдаёт все задачи, подходящие под фильтр (page и size игнорируются), в формате NDJSON "
+                    + "или CSV. Строки пишутся в ответ по мере чтения из базы", tags = "Tasks")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Файл экспорта"),
+            @ApiResponse(responseCode = "403", description = "Нет доступа")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestBody TaskFilterDto taskFilterDto,
+            @RequestParam(name = "format", defaultValue = "NDJSON") TaskFileFormat format
+    ) {
+        String fileName = "tasks." + format.name().toLowerCase(Locale.ROOT);
+        return ResponseEntity.ok()
+                .contentType(format == TaskFileFormat.CSV ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(out -> taskExportService.exportTasks(taskFilterDto, format, out));
+    }
 }
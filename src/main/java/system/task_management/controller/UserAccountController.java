@@ -4,11 +4,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import system.task_management.model.dto.UserAccountResponseDto;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.authorization.RequiresPermission;
+import system.task_management.security.model.Permission;
 import system.task_management.service.user.UserAccountService;
 
 import java.util.List;
@@ -24,7 +30,7 @@ public class UserAccountController {
             description = "Позволяет получить пользователя по email. Открыт для всех авторизованых",
             tags = "Users"
     )
-    @PreAuthorize("hasAuthority('permission:read')")
+    @RequiresPermission(Permission.READ)
     @GetMapping("/email/{email}")
     public UserAccountResponseDto getUserAccountByEmail(@PathVariable @NotBlank String email) {
         return userAccountServiceImpl.getUserAccountByEmail(email);
@@ -34,7 +40,7 @@ public class UserAccountController {
             description = "Позволяет получить пользователя по id. Открыт для всех авторизованых",
             tags = "Users"
     )
-    @PreAuthorize("hasAuthority('permission:read')")
+    @RequiresPermission(Permission.READ)
     @GetMapping("/id/{id}")
     public UserAccountResponseDto getUserAccountById(@PathVariable @Positive long id) {
         return userAccountServiceImpl.getUserAccountById(id);
@@ -44,9 +50,33 @@ public class UserAccountController {
             description = "Позволяет получить список юзеров по списку их id. Открыт для всех авторизованых",
             tags = "Users"
     )
-    @PreAuthorize("hasAuthority('permission:read')")
+    @RequiresPermission(Permission.READ)
     @GetMapping
     public List<UserAccountResponseDto> getAllUserAccountsByIds(@RequestParam(name = "ids") @NotEmpty List<Long> ids) {
         return userAccountServiceImpl.getAllUserAccountsByIds(ids);
     }
+
+    @Operation(summary = "Изменение статуса юзера",
+            description = "Блокировка или разблокировка пользователя. При блокировке все его токены отзываются. "
+                    + "Только для администратора",
+            tags = "Users"
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/id/{id}/status")
+    public UserAccountResponseDto setUserAccountStatus(
+            @PathVariable @Positive long id,
+            @RequestParam("status") @NotNull UserAccountStatus status) {
+        return userAccountServiceImpl.setUserAccountStatus(id, status);
+    }
+
+    @Operation(summary = "Завершение всех сессий юзера",
+            description = "Отзывает все access и refresh токены пользователя. Только для администратора",
+            tags = "Users"
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/id/{id}/sessions")
+    public ResponseEntity<Void> revokeAllSessions(@PathVariable @Positive long id) {
+        userAccountServiceImpl.revokeAllSessions(id);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
 }
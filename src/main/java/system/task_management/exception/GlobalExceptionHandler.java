@@ -4,14 +4,19 @@ import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import system.task_management.util.TaskETags;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -43,6 +48,53 @@ public class GlobalExceptionHandler {
                         "TASK_NOT_FOUND"));
     }
 
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<ErrorCustomResponse> handleTaskVersionConflict(TaskVersionConflictException e) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .eTag(TaskETags.task(e.getTaskId(), e.getCurrentVersion()))
+                .body(new ErrorCustomResponse(
+                        "Задача была изменена другим запросом. Перечитайте её и повторите изменение.",
+                        "TASK_VERSION_CONFLICT"));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorCustomResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorCustomResponse(
+                        "Задача была изменена другим запросом. Перечитайте её и повторите изменение.",
+                        "TASK_VERSION_CONFLICT"));
+    }
+
+    @ExceptionHandler(MissingRequestHeaderException.class)
+    public ResponseEntity<ErrorCustomResponse> handleMissingHeader(MissingRequestHeaderException e) {
+        boolean precondition = HttpHeaders.IF_MATCH.equalsIgnoreCase(e.getHeaderName());
+        return ResponseEntity
+                .status(precondition ? HttpStatus.PRECONDITION_REQUIRED : HttpStatus.BAD_REQUEST)
+                .body(new ErrorCustomResponse(
+                        "Не передан заголовок " + e.getHeaderName() + ".",
+                        precondition ? "PRECONDITION_REQUIRED" : "MISSING_HEADER"));
+    }
+
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<ErrorCustomResponse> handleInvalidBulkRequest(InvalidBulkRequestException e) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorCustomResponse(
+                        "Некорректный массовый запрос: " + e.getMessage(),
+                        "INVALID_BULK_REQUEST"));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorCustomResponse> handleInvalidCursor(InvalidCursorException e) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorCustomResponse(
+                        "Некорректный курсор страницы. Запросите первую страницу заново.",
+                        "INVALID_CURSOR"));
+    }
+
     @ExceptionHandler(EmailAlreadyExistsException.class)
     public ResponseEntity<ErrorCustomResponse> handleEmailAlreadyExists(EmailAlreadyExistsException e) {
         return ResponseEntity
@@ -61,6 +113,15 @@ public class GlobalExceptionHandler {
                 .body(new ErrorCustomResponse(message, "AUTHORIZATION_USERNAME_NOT_FOUND"));
     }
 
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorCustomResponse> handleAccessDenied(AccessDeniedException e) {
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(new ErrorCustomResponse(
+                        "Недостаточно прав для выполнения операции.",
+                        "ACCESS_DENIED"));
+    }
+
     @ExceptionHandler(InvalidRefreshTokenException.class)
     public ResponseEntity<ErrorCustomResponse> handleInvalidRefreshToken(InvalidRefreshTokenException e) {
         return ResponseEntity
@@ -88,6 +149,25 @@ public class GlobalExceptionHandler {
                         "REFRESH_TOKEN_ENTITY_NOT_FOUND"));
     }
 
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorCustomResponse> handleTooManyLoginAttempts(TooManyLoginAttemptsException e) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ErrorCustomResponse(
+                        "Слишком много попыток входа. Повторите позже.",
+                        "TOO_MANY_LOGIN_ATTEMPTS"));
+    }
+
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<ErrorCustomResponse> handlePasswordHashingOverloaded(PasswordHashingOverloadedException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(new ErrorCustomResponse(
+                        "Сервис аутентификации перегружен. Повторите позже.",
+                        "AUTH_OVERLOADED"));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorCustomResponse> handleValidationError(MethodArgumentNotValidException e, HttpServletRequest request) {
         String message = e.getBindingResult().getFieldErrors().stream()
@@ -0,0 +1,18 @@
+package system.task_management.exception;
+
+import lombok.Getter;
+
+/**
+ * The task was changed after the client read it: the expected version is no longer current.
+ */
+@Getter
+public class TaskVersionConflictException extends RuntimeException {
+    private final Long taskId;
+    private final Long currentVersion;
+
+    public TaskVersionConflictException(Long taskId, Long currentVersion) {
+        super("Task version conflict. id=" + taskId + ", current version=" + currentVersion);
+        this.taskId = taskId;
+        this.currentVersion = currentVersion;
+    }
+}
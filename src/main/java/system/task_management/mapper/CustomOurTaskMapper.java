@@ -23,9 +23,16 @@ public class CustomOurTaskMapper {
     }
 
     public static OurTaskResponseDto toResponseDto(OurTask ourTask) {
+        return toResponseDto(ourTask, ourTask.getAuthor().getEmail());
+    }
+
+    /**
+     * For a task whose author is an uninitialized reference: the email is known and no select is needed.
+     */
+    public static OurTaskResponseDto toResponseDto(OurTask ourTask, String authorEmail) {
         return OurTaskResponseDto.builder()
                 .id(ourTask.getId())
-                .emailAuthor(ourTask.getAuthor().getEmail())
+                .emailAuthor(authorEmail)
                 .title(ourTask.getTitle())
                 .description(ourTask.getDescription())
                 .taskStatus(ourTask.getTaskStatus())
@@ -34,6 +41,7 @@ public class CustomOurTaskMapper {
                 .comments(getListCommentDto(ourTask))
                 .createdAt(ourTask.getCreatedAt())
                 .updatedAt(ourTask.getUpdatedAt())
+                .version(ourTask.getVersion())
                 .build();
     }
 
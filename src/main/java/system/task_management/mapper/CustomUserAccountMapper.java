@@ -3,6 +3,7 @@ package system.task_management.mapper;
 import system.task_management.model.UserAccount;
 import system.task_management.model.dto.OurTaskShortDto;
 import system.task_management.model.dto.UserAccountResponseDto;
+import system.task_management.model.dto.UserAccountSummaryDto;
 import system.task_management.model.dto.UserAccountShortDto;
 
 import java.util.List;
@@ -26,6 +27,19 @@ public class CustomUserAccountMapper {
                 .build();
     }
 
+    public static UserAccountResponseDto toResponseDto(UserAccountSummaryDto user, List<OurTaskShortDto> ourTasks) {
+        return UserAccountResponseDto.builder()
+                .id(user.id())
+                .email(user.email())
+                .firstName(user.firstName())
+                .lastName(user.lastName())
+                .role(user.role().name())
+                .ourTasks(ourTasks)
+                .createdAt(user.createdAt())
+                .updatedAt(user.updatedAt())
+                .build();
+    }
+
     public static List<OurTaskShortDto> getListOurTasksShortDtos(UserAccount userAccount) {
         System.out.println("I am here two");
         if (userAccount == null || userAccount.getOurTasks() == null || userAccount.getOurTasks().isEmpty()) {
@@ -0,0 +1,158 @@
+package system.task_management.mapper;
+
+import system.task_management.model.dto.CommentResponseDto;
+import system.task_management.model.dto.OurTaskResponseDto;
+import system.task_management.model.dto.UserAccountShortDto;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of {@link OurTaskResponseDto} for the shared cache tier. Enums are stored by their
+ * database code, strings as length-prefixed UTF-8. The first byte is the format version: payloads of
+ * another version decode to {@code null} and are treated as a cache miss.
+ */
+public class TaskDtoBinaryCodec {
+    public static final byte FORMAT_VERSION = 2;
+
+    private static final int NULL_LENGTH = -1;
+
+    public static byte[] encode(OurTaskResponseDto dto) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeLong(out, dto.id());
+            writeString(out, dto.emailAuthor());
+            writeString(out, dto.title());
+            writeString(out, dto.description());
+            out.writeByte(dto.taskStatus() == null ? 0 : dto.taskStatus().getCode());
+            out.writeByte(dto.taskPriority() == null ? 0 : dto.taskPriority().getCode());
+
+            writeSize(out, dto.performers());
+            if (dto.performers() != null) {
+                for (UserAccountShortDto performer : dto.performers()) {
+                    writeLong(out, performer.id());
+                    writeString(out, performer.email());
+                    writeString(out, performer.firstname());
+                    writeString(out, performer.lastname());
+                }
+            }
+
+            writeSize(out, dto.comments());
+            if (dto.comments() != null) {
+                for (CommentResponseDto comment : dto.comments()) {
+                    writeLong(out, comment.id());
+                    writeString(out, comment.comment());
+                    writeLong(out, comment.owner());
+                    writeInstant(out, comment.createdAt());
+                }
+            }
+
+            writeInstant(out, dto.createdAt());
+            writeInstant(out, dto.updatedAt());
+            writeLong(out, dto.version());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static OurTaskResponseDto decode(byte[] data) {
+        if (data == null || data.length == 0 || data[0] != FORMAT_VERSION) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 1, data.length - 1))) {
+            OurTaskResponseDto.OurTaskResponseDtoBuilder builder = OurTaskResponseDto.builder()
+                    .id(readLong(in))
+                    .emailAuthor(readString(in))
+                    .title(readString(in))
+                    .description(readString(in));
+            int status = in.readUnsignedByte();
+            int priority = in.readUnsignedByte();
+            builder.taskStatus(status == 0 ? null : TaskStatus.fromCode(status))
+                    .taskPriority(priority == 0 ? null : TaskPriority.fromCode(priority));
+
+            int performerCount = in.readInt();
+            if (performerCount != NULL_LENGTH) {
+                List<UserAccountShortDto> performers = new ArrayList<>(performerCount);
+                for (int i = 0; i < performerCount; i++) {
+                    performers.add(new UserAccountShortDto(readLong(in), readString(in), readString(in), readString(in)));
+                }
+                builder.performers(performers);
+            }
+
+            int commentCount = in.readInt();
+            if (commentCount != NULL_LENGTH) {
+                List<CommentResponseDto> comments = new ArrayList<>(commentCount);
+                for (int i = 0; i < commentCount; i++) {
+                    comments.add(new CommentResponseDto(readLong(in), readString(in), readLong(in), readInstant(in)));
+                }
+                builder.comments(comments);
+            }
+
+            return builder.createdAt(readInstant(in))
+                    .updatedAt(readInstant(in))
+                    .version(readLong(in))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSize(DataOutputStream out, List<?> list) throws IOException {
+        out.writeInt(list == null ? NULL_LENGTH : list.size());
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+    }
+}
@@ -0,0 +1,22 @@
+package system.task_management.model;
+
+import system.task_management.model.dto.CommentTimelineDto;
+
+import java.util.List;
+
+/**
+ * A slice of the comment timeline of a task. Without a cursor or with {@code before} the content goes from
+ * newest to oldest, with {@code after} from oldest to newest. {@code hasMore} tells whether more comments
+ * follow in the requested direction. {@code olderCursor} continues backwards. {@code newerCursor} comes with
+ * the first slice and with every poll: it is what the client sends as {@code after} to get comments added
+ * later, and it stays the same while nothing new arrives. A poll also returns a comment that committed after
+ * newer ones, as long as it did so within properties.paging.timeline-poll-overlap, and never repeats one.
+ */
+public record CommentTimelineResponse(
+        List<CommentTimelineDto> content,
+        int size,
+        String olderCursor,
+        String newerCursor,
+        boolean hasMore
+) {
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import system.task_management.model.converter.TaskPriorityConverter;
+import system.task_management.model.converter.TaskStatusConverter;
 import system.task_management.model.enums.TaskPriority;
 import system.task_management.model.enums.TaskStatus;
 
@@ -15,12 +17,33 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "our_task")
+@NamedEntityGraph(name = OurTask.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("author"),
+        @NamedAttributeNode("performers")
+})
+@NamedEntityGraph(name = OurTask.GRAPH_LIST_ROW, attributeNodes = @NamedAttributeNode("author"))
+@NamedEntityGraph(name = OurTask.GRAPH_PERFORMERS, attributeNodes = @NamedAttributeNode("performers"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class OurTask {
 
+    /**
+     * Task card: author and performers in one query, comments follow as a single batch
+     * (Hibernate cannot fetch two bags in one query).
+     */
+    public static final String GRAPH_DETAIL = "OurTask.detail";
+    /**
+     * List row: author joined, collections of the whole page are batch-loaded (default_batch_fetch_size).
+     */
+    public static final String GRAPH_LIST_ROW = "OurTask.listRow";
+    /**
+     * Performers of a task.
+     */
+    public static final String GRAPH_PERFORMERS = "OurTask.performers";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "our_task_seq")
+    @SequenceGenerator(name = "our_task_seq", sequenceName = "our_task_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", unique = true, nullable = false)
@@ -29,21 +52,21 @@ public class OurTask {
     @Column(name = "description", nullable = false)
     private String description;
 
-    @OneToMany(mappedBy = "ourTask", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "ourTask", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<TaskComment> comments;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TaskStatusConverter.class)
     @Column(name = "status", nullable = false)
     private TaskStatus taskStatus;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "priotity", nullable = false)
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(name = "priority", nullable = false)
     private TaskPriority taskPriority;
 
-    @ManyToMany(mappedBy = "ourTasks", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "ourTasks", fetch = FetchType.LAZY)
     private List<UserAccount> performers;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private UserAccount author;
 
@@ -55,4 +78,11 @@ public class OurTask {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    /**
+     * Also bumped by comment and performer changes, see {@link system.task_management.repository.OurTaskRepositoryCustom#forceVersionIncrement}.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
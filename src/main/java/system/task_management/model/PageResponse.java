@@ -1,6 +1,7 @@
 package system.task_management.model;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -8,10 +9,21 @@ public record PageResponse<T>(
         List<T> content,
         int pageNumber,
         int pageSize,
-        long totalElements,
-        int totalPages,
-        boolean last
+        Long totalElements,
+        Integer totalPages,
+        boolean last,
+        boolean hasNext,
+        TotalType totalType
 ) {
+    /**
+     * Whether totalElements and totalPages are exact, approximate or not computed (both null).
+     */
+    public enum TotalType {
+        EXACT,
+        ESTIMATED,
+        OMITTED
+    }
+
     public static <T> PageResponse<T> of(Page<T> page) {
         return new PageResponse<>(
                 page.getContent(),
@@ -19,7 +31,50 @@ public record PageResponse<T>(
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
-                page.isLast()
+                page.isLast(),
+                page.hasNext(),
+                TotalType.EXACT
+        );
+    }
+
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice) {
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.isLast(),
+                slice.hasNext(),
+                TotalType.OMITTED
+        );
+    }
+
+    /**
+     * The estimate is never reported below what the slice itself proves to exist, and on the last
+     * slice the total is known exactly. An empty slice past the first page only proves that fewer rows
+     * than its offset exist, so the total stays an estimate capped by the offset.
+     */
+    public static <T> PageResponse<T> ofEstimate(Slice<T> slice, long estimatedTotal) {
+        long offset = slice.getPageable().getOffset();
+        long seen = offset + slice.getNumberOfElements();
+        boolean pastEnd = !slice.hasContent() && offset > 0;
+        long total;
+        if (pastEnd) {
+            total = Math.min(estimatedTotal, offset);
+        } else {
+            total = slice.hasNext() ? Math.max(estimatedTotal, seen + 1) : seen;
+        }
+
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                (int) ((total + slice.getSize() - 1) / slice.getSize()),
+                slice.isLast(),
+                slice.hasNext(),
+                slice.hasNext() || pastEnd ? TotalType.ESTIMATED : TotalType.EXACT
         );
     }
 }
@@ -17,17 +17,18 @@ import java.util.Objects;
 @AllArgsConstructor
 public class TaskComment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comment_seq")
+    @SequenceGenerator(name = "task_comment_seq", sequenceName = "task_comment_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "text", nullable = false, columnDefinition = "TEXT")
     private String text;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", referencedColumnName = "id")
     private OurTask ourTask;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id")
     private UserAccount author;
 
@@ -0,0 +1,18 @@
+package system.task_management.model;
+
+import system.task_management.model.dto.TaskSearchHitDto;
+
+import java.util.List;
+
+/**
+ * A page of search hits. {@code truncated} is set when a source had more matches than the search considers;
+ * the weakest of them are left out, and a more specific query finds them.
+ */
+public record TaskSearchResponse(
+        List<TaskSearchHitDto> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        boolean truncated
+) {
+}
@@ -2,6 +2,7 @@ package system.task_management.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import system.task_management.security.model.RoleUser;
@@ -16,12 +17,19 @@ import java.util.Objects;
 @Entity
 @Builder
 @Table(name = "user_account")
+@NamedEntityGraph(name = UserAccount.GRAPH_PROFILE, attributeNodes = @NamedAttributeNode("ourTasks"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserAccount {
 
+    /**
+     * User profile with the short view of its tasks.
+     */
+    public static final String GRAPH_PROFILE = "UserAccount.profile";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_account_seq")
+    @SequenceGenerator(name = "user_account_seq", sequenceName = "user_account_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "email", unique = true, nullable = false)
@@ -40,7 +48,7 @@ public class UserAccount {
     @Column(name = "role", nullable = false)
     private RoleUser role;
 
-    @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.EAGER)
+    @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_task",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -63,9 +71,9 @@ public class UserAccount {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
         UserAccount that = (UserAccount) o;
-        return id.equals(that.id) && email.equals(that.email);
+        return Objects.equals(getId(), that.getId()) && Objects.equals(getEmail(), that.getEmail());
     }
 
 
@@ -0,0 +1,19 @@
+package system.task_management.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import system.task_management.model.enums.TaskPriority;
+
+@Converter
+public class TaskPriorityConverter implements AttributeConverter<TaskPriority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskPriority priority) {
+        return priority == null ? null : (short) priority.getCode();
+    }
+
+    @Override
+    public TaskPriority convertToEntityAttribute(Short code) {
+        return code == null ? null : TaskPriority.fromCode(code);
+    }
+}
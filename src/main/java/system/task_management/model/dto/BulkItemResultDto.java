@@ -0,0 +1,11 @@
+package system.task_management.model.dto;
+
+import system.task_management.model.enums.BulkItemOutcome;
+
+import java.io.Serializable;
+
+public record BulkItemResultDto(
+        Long taskId,
+        BulkItemOutcome outcome
+) implements Serializable {
+}
@@ -0,0 +1,20 @@
+package system.task_management.model.dto;
+
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Tasks are selected either by {@code taskIds} or by {@code filter} (paging fields are ignored), never both.
+ * Only the value of the called operation is read: {@code status}, {@code priority} or {@code userIds}.
+ */
+public record BulkTaskRequestDto(
+        List<Long> taskIds,
+        TaskFilterDto filter,
+        TaskStatus status,
+        TaskPriority priority,
+        List<Long> userIds
+) implements Serializable {
+}
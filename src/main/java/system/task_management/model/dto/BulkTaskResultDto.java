@@ -0,0 +1,21 @@
+package system.task_management.model.dto;
+
+import lombok.Builder;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Builder
+public record BulkTaskResultDto(
+        String operation,
+        int requested,
+        int updated,
+        int unchanged,
+        int notFound,
+        int failed,
+        int chunks,
+        long elapsedMs,
+        double tasksPerSecond,
+        List<BulkItemResultDto> items
+) implements Serializable {
+}
@@ -0,0 +1,17 @@
+package system.task_management.model.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Timeline entry, selected as scalars: neither the task nor the author entity is loaded.
+ */
+public record CommentTimelineDto(
+        Long id,
+        String text,
+        Long authorId,
+        String authorFirstName,
+        String authorLastName,
+        Instant createdAt
+) implements Serializable {
+}
@@ -19,6 +19,7 @@ public record OurTaskResponseDto(
         List<UserAccountShortDto> performers,
         List<CommentResponseDto> comments,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Long version
 ) implements Serializable {
 }
@@ -0,0 +1,23 @@
+package system.task_management.model.dto;
+
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * One exported task, selected as scalars so that no entity is loaded.
+ */
+public record TaskExportRowDto(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        TaskPriority priority,
+        String authorEmail,
+        Instant createdAt,
+        Instant updatedAt,
+        Long version
+) implements Serializable {
+}
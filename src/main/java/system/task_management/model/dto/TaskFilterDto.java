@@ -1,10 +1,21 @@
 package system.task_management.model.dto;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskSortField;
 import system.task_management.model.enums.TaskStatus;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
 
+/**
+ * Every criterion is optional and they are combined with AND. {@code email} is the author's email,
+ * {@code status} is kept for older clients and is merged into {@code statuses}; date ranges may be open on either side.
+ */
 public record TaskFilterDto(
     String email,
     TaskStatus status,
@@ -12,6 +23,56 @@ public record TaskFilterDto(
     LocalDate endDate,
     String title,
     int page,
-    int size
+    int size,
+    Set<TaskStatus> statuses,
+    Set<TaskPriority> priorities,
+    Set<Long> performerIds,
+    LocalDate updatedFrom,
+    LocalDate updatedTo,
+    TaskSortField sortBy,
+    Sort.Direction sortDirection
     ) implements Serializable {
+
+    public TaskFilterDto(String email, TaskStatus status, LocalDate startDate, LocalDate endDate, String title,
+                         int page, int size) {
+        this(email, status, startDate, endDate, title, page, size, null, null, null, null, null, null, null);
+    }
+
+    public Set<TaskStatus> effectiveStatuses() {
+        Set<TaskStatus> result = CollectionUtils.isEmpty(statuses) ? EnumSet.noneOf(TaskStatus.class) : EnumSet.copyOf(statuses);
+        if (status != null) {
+            result.add(status);
+        }
+        return result;
+    }
+
+    public boolean hasFilters() {
+        return StringUtils.hasText(email)
+                || status != null
+                || startDate != null
+                || endDate != null
+                || StringUtils.hasText(title)
+                || !CollectionUtils.isEmpty(statuses)
+                || !CollectionUtils.isEmpty(priorities)
+                || !CollectionUtils.isEmpty(performerIds)
+                || updatedFrom != null
+                || updatedTo != null;
+    }
+
+    /**
+     * Newest first by default; id breaks ties so that offset pages never overlap.
+     */
+    public Sort toSort() {
+        TaskSortField field = sortBy == null ? TaskSortField.CREATED_AT : sortBy;
+        Sort.Direction direction = sortDirection == null ? Sort.Direction.DESC : sortDirection;
+        return Sort.by(direction, field.getProperty()).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * The same filter without page, size and sorting, used as the key of a cached total.
+     */
+    public TaskFilterDto withoutPaging() {
+        return new TaskFilterDto(email, status, startDate, endDate, title, 0, 0,
+                statuses, priorities, performerIds, updatedFrom, updatedTo, null, null);
+    }
 }
@@ -0,0 +1,10 @@
+package system.task_management.model.dto;
+
+import java.io.Serializable;
+
+public record TaskImportErrorDto(
+        long line,
+        String title,
+        String message
+) implements Serializable {
+}
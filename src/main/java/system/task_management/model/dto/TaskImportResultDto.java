@@ -0,0 +1,27 @@
+package system.task_management.model.dto;
+
+import lombok.Builder;
+import system.task_management.model.enums.TaskFileFormat;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Row counts of an import. {@code errors} holds at most properties.bulk.import-max-errors entries,
+ * {@code errorsTruncated} tells that more rows were rejected.
+ */
+@Builder
+public record TaskImportResultDto(
+        TaskFileFormat format,
+        long received,
+        long imported,
+        long duplicates,
+        long invalid,
+        long failed,
+        int chunks,
+        long elapsedMs,
+        double rowsPerSecond,
+        List<TaskImportErrorDto> errors,
+        boolean errorsTruncated
+) implements Serializable {
+}
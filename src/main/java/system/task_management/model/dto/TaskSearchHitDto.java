@@ -0,0 +1,23 @@
+package system.task_management.model.dto;
+
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Highlights wrap matched words in {@code <mark>}; commentHighlight is null when no comment matched.
+ */
+public record TaskSearchHitDto(
+        Long id,
+        String title,
+        TaskStatus taskStatus,
+        TaskPriority taskPriority,
+        Instant createdAt,
+        double rank,
+        String titleHighlight,
+        String descriptionHighlight,
+        String commentHighlight
+) implements Serializable {
+}
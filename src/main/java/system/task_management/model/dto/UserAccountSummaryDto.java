@@ -0,0 +1,22 @@
+package system.task_management.model.dto;
+
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.model.RoleUser;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * User columns without associations, as kept by {@link system.task_management.service.user.UserDirectory}.
+ */
+public record UserAccountSummaryDto(
+        Long id,
+        String email,
+        String firstName,
+        String lastName,
+        RoleUser role,
+        UserAccountStatus status,
+        Instant createdAt,
+        Instant updatedAt
+) implements Serializable {
+}
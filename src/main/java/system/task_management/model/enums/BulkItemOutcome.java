@@ -0,0 +1,17 @@
+package system.task_management.model.enums;
+
+/**
+ * Result of a bulk operation for one task.
+ */
+public enum BulkItemOutcome {
+    UPDATED,
+    /**
+     * The task already had the requested value, nothing was written and its version is unchanged.
+     */
+    UNCHANGED,
+    NOT_FOUND,
+    /**
+     * The chunk containing the task was rolled back, see the server log.
+     */
+    FAILED
+}
@@ -0,0 +1,19 @@
+package system.task_management.model.enums;
+
+/**
+ * How a paged endpoint reports the total number of rows.
+ */
+public enum PageCountMode {
+    /**
+     * Exact COUNT(*) on every request.
+     */
+    EXACT,
+    /**
+     * Planner estimate or a cached count, at most properties.paging.count-cache-ttl seconds old.
+     */
+    ESTIMATED,
+    /**
+     * No total at all, only whether a next page exists.
+     */
+    NONE
+}
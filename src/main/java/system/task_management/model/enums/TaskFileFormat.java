@@ -0,0 +1,16 @@
+package system.task_management.model.enums;
+
+/**
+ * Format of a task file, shared by import and export.
+ */
+public enum TaskFileFormat {
+    /**
+     * One JSON object per line.
+     */
+    NDJSON,
+    /**
+     * Header row naming the columns. On import the columns authorEmail, title, description and priority
+     * may come in any order.
+     */
+    CSV
+}
@@ -1,5 +1,24 @@
 package system.task_management.model.enums;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stored as the smallint {@link #code}, so sorting by priority in SQL follows severity.
+ */
+@Getter
+@RequiredArgsConstructor
 public enum TaskPriority {
-    LOW, MEDIUM, HIGH
+    LOW(1), MEDIUM(2), HIGH(3);
+
+    private final int code;
+
+    public static TaskPriority fromCode(int code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
 }
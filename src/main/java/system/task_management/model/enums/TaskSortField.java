@@ -0,0 +1,16 @@
+package system.task_management.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskSortField {
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    PRIORITY("taskPriority"),
+    STATUS("taskStatus"),
+    TITLE("title");
+
+    private final String property;
+}
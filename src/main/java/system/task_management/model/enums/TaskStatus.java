@@ -1,5 +1,24 @@
 package system.task_management.model.enums;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stored as the smallint {@link #code}; codes are part of the schema (V3 migration) and must never be reused.
+ */
+@Getter
+@RequiredArgsConstructor
 public enum TaskStatus {
-    ACTIVE, PENDING, COMPLETED, FAILED, CANCELLED
+    ACTIVE(1), PENDING(2), COMPLETED(3), FAILED(4), CANCELLED(5);
+
+    private final int code;
+
+    public static TaskStatus fromCode(int code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
 }
@@ -0,0 +1,31 @@
+package system.task_management.model.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("properties.bulk")
+public class BulkProperties {
+    /**
+     * Tasks per transaction. A failing chunk is rolled back alone.
+     */
+    private int chunkSize = 500;
+    /**
+     * Upper bound of tasks one bulk request may select.
+     */
+    private int maxTasks = 10_000;
+    /**
+     * Imported rows per insert statement and transaction.
+     */
+    private int importChunkSize = 1000;
+    /**
+     * Row errors listed in an import result; further errors are only counted.
+     */
+    private int importMaxErrors = 1000;
+    /**
+     * Rows an export reads from the database cursor, and writes to the response, at a time.
+     */
+    private int exportFetchSize = 1000;
+}
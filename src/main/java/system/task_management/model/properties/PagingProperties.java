@@ -0,0 +1,21 @@
+package system.task_management.model.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("properties.paging")
+public class PagingProperties {
+    /**
+     * Staleness bound of estimated totals, in seconds.
+     */
+    private long countCacheTtl = 60;
+    private long countCacheSize = 10_000;
+    /**
+     * How far behind its newest comment a timeline poll re-reads, in seconds. Must exceed the time from
+     * creating a comment to committing it, or a comment that commits later than that is missed.
+     */
+    private long timelinePollOverlap = 5;
+}
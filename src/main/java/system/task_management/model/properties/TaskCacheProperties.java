@@ -0,0 +1,20 @@
+package system.task_management.model.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("properties.task-cache")
+public class TaskCacheProperties {
+    private long localSize = 10_000;
+    /**
+     * Lifetime of the in-process entries, in seconds. Bounds staleness if an invalidation event is lost.
+     */
+    private long localTtl = 60;
+    /**
+     * Lifetime of the shared Redis entries, in seconds.
+     */
+    private long redisTtl = 600;
+}
@@ -0,0 +1,16 @@
+package system.task_management.model.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("properties.user-directory")
+public class UserDirectoryProperties {
+    private long size = 10_000;
+    /**
+     * Lifetime of a cached user, in seconds. Bounds how late a node notices a change if an event is lost.
+     */
+    private long ttl = 30;
+}
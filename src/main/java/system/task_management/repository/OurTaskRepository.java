@@ -1,11 +1,68 @@
 package system.task_management.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import system.task_management.model.OurTask;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
 
+import java.time.Instant;
 import java.util.Optional;
 
-public interface OurTaskRepository extends JpaRepository<OurTask, Long>, JpaSpecificationExecutor<OurTask> {
+public interface OurTaskRepository extends JpaRepository<OurTask, Long>, JpaSpecificationExecutor<OurTask>,
+        OurTaskRepositoryCustom {
     Optional<OurTask> findByTitle(String title);
+
+    @EntityGraph(OurTask.GRAPH_DETAIL)
+    Optional<OurTask> findDetailById(Long id);
+
+    @EntityGraph(OurTask.GRAPH_DETAIL)
+    Optional<OurTask> findDetailByTitle(String title);
+
+    @EntityGraph(OurTask.GRAPH_PERFORMERS)
+    Optional<OurTask> findWithPerformersById(Long id);
+
+    @Query("select t.version from OurTask t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Version bump without loading the task, for writes to rows the task does not own (comments).
+     * Also locks the task row until commit. 0 if the task does not exist.
+     */
+    @Modifying
+    @Query("update OurTask t set t.version = t.version + 1 where t.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    /**
+     * Membership check on the (task_id, user_id) index of user_task; loads neither the task nor its performers.
+     */
+    @Query(value = "select exists(select 1 from user_task where task_id = :taskId and user_id = :userId)",
+            nativeQuery = true)
+    boolean isPerformer(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    /**
+     * Compare-and-set of one column: 1 if the task was at {@code version}, 0 if it was changed meanwhile or is absent.
+     */
+    @Modifying
+    @Query("update OurTask t set t.taskStatus = :status, t.version = t.version + 1, t.updatedAt = :updatedAt "
+            + "where t.id = :id and t.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("status") TaskStatus status,
+                     @Param("version") long version, @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("update OurTask t set t.taskPriority = :priority, t.version = t.version + 1, t.updatedAt = :updatedAt "
+            + "where t.id = :id and t.version = :version")
+    int updatePriority(@Param("id") Long id, @Param("priority") TaskPriority priority,
+                       @Param("version") long version, @Param("updatedAt") Instant updatedAt);
+
+    @Override
+    @EntityGraph(OurTask.GRAPH_LIST_ROW)
+    Page<OurTask> findAll(Specification<OurTask> spec, Pageable pageable);
 }
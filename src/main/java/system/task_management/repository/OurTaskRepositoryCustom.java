@@ -0,0 +1,38 @@
+package system.task_management.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import system.task_management.model.OurTask;
+import system.task_management.model.dto.TaskExportRowDto;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface OurTaskRepositoryCustom {
+
+    /**
+     * Like {@code findAll(spec, pageable)} without the COUNT query: reads one extra row to tell whether a next page exists.
+     */
+    Slice<OurTask> findSlice(Specification<OurTask> spec, Pageable pageable);
+
+    /**
+     * Bumps the version right away although no column of the task changed, and locks the row until commit.
+     * Comments and performers are owned by the other side, so changing them would otherwise leave the version
+     * (and the ETag) as is. The new version is set on the entity, so a response mapped after the flush carries
+     * the value a client must send back as If-Match.
+     */
+    void forceVersionIncrement(OurTask task);
+
+    /**
+     * Ids of the matching tasks in id order, at most {@code limit} of them. Loads no entities.
+     */
+    List<Long> findIds(Specification<OurTask> spec, int limit);
+
+    /**
+     * Matching tasks as export rows, read through a forward-only cursor {@code fetchSize} rows at a time.
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<TaskExportRowDto> streamExportRows(Specification<OurTask> spec, Sort sort, int fetchSize);
+}
@@ -0,0 +1,195 @@
+package system.task_management.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import system.task_management.model.enums.BulkItemOutcome;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based writes for bulk task operations. Every method handles one chunk inside the caller's transaction
+ * and reports an outcome for each task that exists; absent ids are left out of the result. Imports insert
+ * a whole chunk of new tasks with one statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkRepository {
+
+    /**
+     * Rows that already hold the value are not rewritten, so their version (and ETag) stays the same.
+     */
+    private static final String SET_COLUMN = """
+            WITH changed AS (
+                UPDATE our_task SET %1$s = ?, version = version + 1, updated_at = now()
+                WHERE id = ANY(?) AND %1$s <> ?
+                RETURNING id
+            )
+            SELECT t.id, c.id IS NOT NULL AS changed
+            FROM our_task t LEFT JOIN changed c ON c.id = t.id
+            WHERE t.id = ANY(?)
+            """;
+
+    /**
+     * Every (user, existing task) pair in one statement. New rows are read from RETURNING rather than from
+     * update counts, which the driver may report as SUCCESS_NO_INFO; only tasks that got one are bumped.
+     */
+    private static final String ASSIGN = """
+            WITH inserted AS (
+                INSERT INTO user_task (user_id, task_id)
+                SELECT u.user_id, t.id
+                FROM our_task t CROSS JOIN unnest(?::bigint[]) AS u(user_id)
+                WHERE t.id = ANY(?)
+                ON CONFLICT DO NOTHING
+                RETURNING task_id
+            ), bumped AS (
+                UPDATE our_task SET version = version + 1, updated_at = now()
+                WHERE id IN (SELECT task_id FROM inserted)
+                RETURNING id
+            )
+            SELECT t.id, b.id IS NOT NULL AS changed
+            FROM our_task t LEFT JOIN bumped b ON b.id = t.id
+            WHERE t.id = ANY(?)
+            """;
+
+    private static final String EXISTING_USERS = "SELECT id FROM user_account WHERE id = ANY(?)";
+
+    /**
+     * INCREMENT BY of our_task_seq (V6) and allocationSize of OurTask: each nextval reserves the block
+     * {@code (value - 49) .. value}, the same way Hibernate's pooled optimizer reads it.
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String NEXT_ID_BLOCKS = "SELECT nextval('our_task_seq') FROM generate_series(1, ?)";
+
+    /**
+     * The whole chunk in one statement, with ids reserved by {@link #NEXT_ID_BLOCKS}. The column default would
+     * take a whole block for every row. A title that already exists, in the table or earlier in the chunk,
+     * is skipped rather than failing the chunk.
+     */
+    private static final String INSERT_TASKS = """
+            INSERT INTO our_task (id, title, description, status, priority, author_id, created_at, updated_at)
+            SELECT r.id, r.title, r.description, ?, r.priority, r.author_id, now(), now()
+            FROM unnest(?::bigint[], ?::text[], ?::text[], ?::smallint[], ?::bigint[])
+                AS r(id, title, description, priority, author_id)
+            ON CONFLICT (title) DO NOTHING
+            RETURNING title
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts new PENDING tasks.
+     *
+     * @return titles that were inserted
+     */
+    public Set<String> insertTasks(List<NewTaskRow> rows) {
+        int size = rows.size();
+        Long[] ids = reserveIds(size);
+        String[] titles = new String[size];
+        String[] descriptions = new String[size];
+        Short[] priorities = new Short[size];
+        Long[] authorIds = new Long[size];
+        for (int i = 0; i < size; i++) {
+            NewTaskRow row = rows.get(i);
+            titles[i] = row.title();
+            descriptions[i] = row.description();
+            priorities[i] = (short) row.priority().getCode();
+            authorIds[i] = row.authorId();
+        }
+
+        Set<String> inserted = new HashSet<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_TASKS);
+            ps.setShort(1, (short) TaskStatus.PENDING.getCode());
+            ps.setArray(2, con.createArrayOf("bigint", ids));
+            ps.setArray(3, con.createArrayOf("text", titles));
+            ps.setArray(4, con.createArrayOf("text", descriptions));
+            ps.setArray(5, con.createArrayOf("smallint", priorities));
+            ps.setArray(6, con.createArrayOf("bigint", authorIds));
+            return ps;
+        }, (RowCallbackHandler) rs -> inserted.add(rs.getString(1)));
+        return inserted;
+    }
+
+    /**
+     * One nextval per {@link #ID_BLOCK_SIZE} rows; rows skipped on a title conflict leave gaps only inside
+     * the chunk's own blocks.
+     */
+    private Long[] reserveIds(int count) {
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> upperBounds = jdbcTemplate.queryForList(NEXT_ID_BLOCKS, Long.class, blocks);
+        Long[] ids = new Long[count];
+        for (int i = 0; i < count; i++) {
+            long upperBound = upperBounds.get(i / ID_BLOCK_SIZE);
+            ids[i] = upperBound - ID_BLOCK_SIZE + 1 + i % ID_BLOCK_SIZE;
+        }
+        return ids;
+    }
+
+    public Map<Long, BulkItemOutcome> setStatus(List<Long> taskIds, TaskStatus status) {
+        return setColumn("status", status.getCode(), taskIds);
+    }
+
+    public Map<Long, BulkItemOutcome> setPriority(List<Long> taskIds, TaskPriority priority) {
+        return setColumn("priority", priority.getCode(), taskIds);
+    }
+
+    /**
+     * A task is UPDATED if at least one of its assignments was new.
+     */
+    public Map<Long, BulkItemOutcome> assignPerformers(List<Long> taskIds, List<Long> userIds) {
+        Map<Long, BulkItemOutcome> outcomes = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(ASSIGN);
+            Array ids = con.createArrayOf("bigint", taskIds.toArray());
+            ps.setArray(1, con.createArrayOf("bigint", userIds.toArray()));
+            ps.setArray(2, ids);
+            ps.setArray(3, ids);
+            return ps;
+        }, (RowCallbackHandler) rs -> outcomes.put(rs.getLong(1),
+                rs.getBoolean(2) ? BulkItemOutcome.UPDATED : BulkItemOutcome.UNCHANGED));
+        return outcomes;
+    }
+
+    public Set<Long> findExistingUserIds(List<Long> userIds) {
+        return findExisting(EXISTING_USERS, userIds);
+    }
+
+    private Map<Long, BulkItemOutcome> setColumn(String column, int code, List<Long> taskIds) {
+        Map<Long, BulkItemOutcome> outcomes = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SET_COLUMN.formatted(column));
+            Array ids = con.createArrayOf("bigint", taskIds.toArray());
+            ps.setShort(1, (short) code);
+            ps.setArray(2, ids);
+            ps.setShort(3, (short) code);
+            ps.setArray(4, ids);
+            return ps;
+        }, (RowCallbackHandler) rs -> outcomes.put(rs.getLong(1),
+                rs.getBoolean(2) ? BulkItemOutcome.UPDATED : BulkItemOutcome.UNCHANGED));
+        return outcomes;
+    }
+
+    private Set<Long> findExisting(String sql, List<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> existing.add(rs.getLong(1)));
+        return existing;
+    }
+
+    public record NewTaskRow(String title, String description, TaskPriority priority, long authorId) {
+    }
+}
@@ -1,10 +1,43 @@
 package system.task_management.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import system.task_management.model.TaskComment;
+import system.task_management.model.dto.CommentTimelineDto;
+
+import java.time.Instant;
+import java.util.List;
 
 public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
+    /**
+     * Timeline rows seek on idx_task_comment_task_created_at (task_id, created_at DESC, id DESC); the row
+     * comparison on (createdAt, id) becomes an index condition, so any position costs the same as the first one.
+     */
+    String TIMELINE_SELECT = "select new system.task_management.model.dto.CommentTimelineDto("
+            + "c.id, c.text, a.id, a.firstName, a.lastName, c.createdAt) "
+            + "from TaskComment c left join c.author a where c.ourTask.id = :taskId";
+
     Page<TaskComment> findByOurTaskId(Long taskId, Pageable pageable);
+
+    Slice<TaskComment> findSliceByOurTaskId(Long taskId, Pageable pageable);
+
+    long countByOurTaskId(Long taskId);
+
+    @Query(TIMELINE_SELECT + " order by c.createdAt desc, c.id desc")
+    List<CommentTimelineDto> findTimeline(@Param("taskId") Long taskId, Limit limit);
+
+    @Query(TIMELINE_SELECT + " and (c.createdAt, c.id) < (:createdAt, :id) order by c.createdAt desc, c.id desc")
+    List<CommentTimelineDto> findTimelineBefore(@Param("taskId") Long taskId, @Param("createdAt") Instant createdAt,
+                                                @Param("id") long id, Limit limit);
+
+    /**
+     * Oldest first, for polling.
+     */
+    @Query(TIMELINE_SELECT + " and c.createdAt > :from order by c.createdAt asc, c.id asc")
+    List<CommentTimelineDto> findTimelineSince(@Param("taskId") Long taskId, @Param("from") Instant from, Limit limit);
 }
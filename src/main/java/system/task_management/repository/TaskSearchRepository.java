@@ -0,0 +1,145 @@
+package system.task_management.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import system.task_management.model.dto.TaskSearchHitDto;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+import system.task_management.util.SearchCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranked search over task title, description and comment text (indexes in the V2 migration).
+ * <p>
+ * Each source contributes its {@link #CANDIDATE_LIMIT} best-ranked hits (ties broken by id), so the rows
+ * that are grouped, sorted and paged stay bounded however many comments contain a common word. A weaker
+ * match beyond the cap is not returned; {@link SearchResult#truncated()} tells when that happened.
+ * Only the returned page is joined with the task rows and highlighted, because ts_headline re-parses
+ * the whole document.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskSearchRepository {
+    static final int CANDIDATE_LIMIT = 1000;
+
+    private static final String HIGHLIGHT = "StartSel=<mark>, StopSel=</mark>";
+
+    private static final String SEARCH_QUERY = """
+            WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS tsq),
+            task_hits AS (
+                SELECT t.id, ts_rank(t.search_vector, q.tsq) AS rank
+                FROM our_task t, q
+                WHERE t.search_vector @@ q.tsq
+                ORDER BY rank DESC, t.id DESC
+                LIMIT :candidateLimit
+            ),
+            comment_matches AS (
+                SELECT c.task_id, ts_rank(c.search_vector, q.tsq) AS rank
+                FROM task_comment c, q
+                WHERE c.search_vector @@ q.tsq
+                ORDER BY rank DESC, c.id DESC
+                LIMIT :candidateLimit
+            ),
+            comment_hits AS (
+                SELECT task_id AS id, max(rank) * 0.5 AS rank
+                FROM comment_matches
+                GROUP BY task_id
+            ),
+            fuzzy_hits AS (
+                SELECT t.id, similarity(t.title, :query) * 0.3 AS rank
+                FROM our_task t
+                WHERE t.title %% :query OR t.title ILIKE :pattern OR t.description ILIKE :pattern
+                ORDER BY rank DESC, t.id DESC
+                LIMIT :candidateLimit
+            ),
+            capped AS (
+                SELECT (SELECT count(*) FROM task_hits) = :candidateLimit
+                    OR (SELECT count(*) FROM comment_matches) = :candidateLimit
+                    OR (SELECT count(*) FROM fuzzy_hits) = :candidateLimit AS truncated
+            ),
+            ranked AS (
+                SELECT h.id, sum(h.rank)::float8 AS rank
+                FROM (SELECT * FROM task_hits
+                      UNION ALL SELECT * FROM comment_hits
+                      UNION ALL SELECT * FROM fuzzy_hits) h
+                GROUP BY h.id
+            )
+            SELECT r.id, r.rank, t.title, t.status, t.priority, t.created_at,
+                   ts_headline('simple', t.title, q.tsq, 'HighlightAll=true, %1$s') AS title_highlight,
+                   ts_headline('simple', t.description, q.tsq, 'MaxFragments=2, MaxWords=20, MinWords=5, %1$s')
+                       AS description_highlight,
+                   ts_headline('simple', bc.text, q.tsq, 'MaxFragments=1, MaxWords=20, MinWords=5, %1$s')
+                       AS comment_highlight,
+                   capped.truncated
+            FROM (SELECT * FROM ranked %2$s ORDER BY rank DESC, id DESC LIMIT :limit) r
+            JOIN our_task t ON t.id = r.id
+            CROSS JOIN q
+            CROSS JOIN capped
+            LEFT JOIN LATERAL (
+                SELECT c.text
+                FROM task_comment c
+                WHERE c.task_id = r.id AND c.search_vector @@ q.tsq
+                ORDER BY ts_rank(c.search_vector, q.tsq) DESC
+                LIMIT 1
+            ) bc ON true
+            ORDER BY r.rank DESC, r.id DESC
+            """;
+
+    private static final String FIRST_PAGE = SEARCH_QUERY.formatted(HIGHLIGHT, "");
+    private static final String NEXT_PAGE = SEARCH_QUERY.formatted(HIGHLIGHT,
+            "WHERE rank < :afterRank OR (rank = :afterRank AND id < :afterId)");
+
+    private static final RowMapper<TaskSearchHitDto> HIT_MAPPER = (rs, rowNum) -> new TaskSearchHitDto(
+            rs.getLong("id"),
+            rs.getString("title"),
+            TaskStatus.fromCode(rs.getInt("status")),
+            TaskPriority.fromCode(rs.getInt("priority")),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getDouble("rank"),
+            rs.getString("title_highlight"),
+            rs.getString("description_highlight"),
+            rs.getString("comment_highlight")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param after position after the last hit of the previous page, null for the first page
+     */
+    public SearchResult search(String query, SearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("pattern", "%" + escapeLike(query) + "%")
+                .addValue("candidateLimit", CANDIDATE_LIMIT)
+                .addValue("limit", limit);
+        if (after != null) {
+            params.addValue("afterRank", after.rank()).addValue("afterId", after.id());
+        }
+        return jdbcTemplate.query(after == null ? FIRST_PAGE : NEXT_PAGE, params,
+                (ResultSetExtractor<SearchResult>) rs -> {
+                    List<TaskSearchHitDto> hits = new ArrayList<>();
+                    boolean truncated = false;
+                    while (rs.next()) {
+                        hits.add(HIT_MAPPER.mapRow(rs, hits.size()));
+                        truncated = rs.getBoolean("truncated");
+                    }
+                    return new SearchResult(hits, truncated);
+                });
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * @param truncated whether a source hit the candidate cap; known only when the page has hits
+     */
+    public record SearchResult(List<TaskSearchHitDto> hits, boolean truncated) {
+    }
+}
@@ -1,14 +1,78 @@
 package system.task_management.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import system.task_management.model.UserAccount;
+import system.task_management.model.dto.UserAccountSummaryDto;
+import system.task_management.security.model.RoleUser;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
+    String SUMMARY_SELECT = "select new system.task_management.model.dto.UserAccountSummaryDto("
+            + "u.id, u.email, u.firstName, u.lastName, u.role, u.userAccountStatus, u.createdAt, u.updatedAt) "
+            + "from UserAccount u";
 
     Optional<UserAccount> findByEmail(String email);
 
+    @EntityGraph(UserAccount.GRAPH_PROFILE)
+    Optional<UserAccount> findProfileById(Long id);
+
     boolean existsByEmail(String email);
 
+    /**
+     * What login needs to check a password and sign a token, without loading UserAccount.
+     */
+    @Query("select u.id as id, u.password as password, u.role as role from UserAccount u where u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * Commits on its own, so a re-hash on login does not keep a transaction open around BCrypt.
+     */
+    @Transactional
+    @Modifying
+    @Query("update UserAccount u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    @Query(SUMMARY_SELECT + " where u.email = :email")
+    Optional<UserAccountSummaryDto> findSummaryByEmail(@Param("email") String email);
+
+    @Query(SUMMARY_SELECT + " where u.id = :id")
+    Optional<UserAccountSummaryDto> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + " where u.id in :ids")
+    List<UserAccountSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + " where u.email in :emails")
+    List<UserAccountSummaryDto> findSummariesByEmailIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Short task view of the given users, one row per assignment, without loading UserAccount.
+     */
+    @Query("select u.id as userId, t.id as taskId, t.title as title from UserAccount u join u.ourTasks t "
+            + "where u.id in :userIds")
+    List<UserTaskRow> findTaskRowsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    interface UserCredentials {
+        Long getId();
+
+        String getPassword();
+
+        RoleUser getRole();
+    }
+
+    interface UserTaskRow {
+        Long getUserId();
+
+        Long getTaskId();
+
+        String getTitle();
+    }
+
 }
@@ -0,0 +1,58 @@
+package system.task_management.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import system.task_management.security.model.Permission;
+import system.task_management.security.model.UserAccountDetails;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the required mask of a method once and then compares it with the principal's
+ * {@link UserAccountDetails#getPermissionMask()}.
+ */
+public class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, Integer> requiredMasks = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        int required = requiredMasks.computeIfAbsent(invocation.getMethod(), this::resolveRequiredMask);
+        Authentication current = authentication.get();
+
+        if (current == null || !current.isAuthenticated()) {
+            return DENIED;
+        }
+        return (permissionMask(current) & required) == required ? GRANTED : DENIED;
+    }
+
+    private int resolveRequiredMask(Method method) {
+        RequiresPermission annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequiresPermission.class);
+        return annotation == null ? 0 : Permission.toMask(List.of(annotation.value()));
+    }
+
+    private int permissionMask(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserAccountDetails userAccountDetails) {
+            return userAccountDetails.getPermissionMask();
+        }
+
+        int mask = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            Permission permission = Permission.fromAuthority(authority.getAuthority());
+            if (permission != null) {
+                mask |= permission.getMask();
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,16 @@
+package system.task_management.security.authorization;
+
+import system.task_management.security.model.Permission;
+
+import java.lang.annotation.*;
+
+/**
+ * Allows the call only if the principal has all listed permissions.
+ * Checked as a bitmask by {@link PermissionAuthorizationManager}, no SpEL is evaluated.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresPermission {
+    Permission[] value();
+}
@@ -0,0 +1,24 @@
+package system.task_management.security.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("properties.password")
+public class PasswordProperties {
+    /**
+     * BCrypt work factor for new hashes. Stored hashes with a lower factor are re-hashed on the next successful login.
+     */
+    private int bcryptStrength = 10;
+    private int hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int hashingQueueCapacity = 64;
+    /**
+     * Milliseconds a caller waits for a hash. A hash that has already started is not stopped by the timeout.
+     */
+    private long hashingTimeout = 5000;
+    private int maxAttemptsPerEmail = 5;
+    private int maxAttemptsPerIp = 50;
+    private long attemptsWindow = 300;
+}
@@ -26,6 +26,7 @@ import java.util.List;
 public class SecurityConfig {
     private final JwtAuthFilter jwtAuthFilter;
     private final RedisService redisService;
+    private final PasswordProperties passwordProperties;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -40,6 +41,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/security/refresh").permitAll()
                         .requestMatchers("/api/v1/security/logout").permitAll()
                         .requestMatchers("/api/v1/security/recover-password").permitAll()
+                        .requestMatchers("/api/v1/security/jwks").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll()
                         .anyRequest().authenticated())
                 .logout(logout -> logout.logoutUrl("/api/v1/security/logout")
@@ -62,7 +64,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(passwordProperties.getBcryptStrength());
     }
 
     // Прописал, имитировал как будто фронт работает на другом домене, dev и prod не делал
@@ -2,6 +2,7 @@ package system.task_management.security.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -47,8 +48,9 @@ public class AuthController {
     )
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDto> login(
-            @RequestBody @Valid @NotNull(message = "Пришел пустой запрос") LoginRequestDto loginRequestDto) {
-        var response = userAccountDetailsService.login(loginRequestDto);
+            @RequestBody @Valid @NotNull(message = "Пришел пустой запрос") LoginRequestDto loginRequestDto,
+            HttpServletRequest request) {
+        var response = userAccountDetailsService.login(loginRequestDto, request.getRemoteAddr());
 
         return ResponseEntity.ok()
                 .header("Authorization", "Bearer " + response.getToken())
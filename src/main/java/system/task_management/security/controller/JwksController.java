@@ -0,0 +1,33 @@
+package system.task_management.security.controller;
+
+import io.jsonwebtoken.security.Jwks;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import system.task_management.security.jwt.JwtKeyRing;
+
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Аутентификация", description = "Регистрация и логин пользователей")
+@RestController
+@RequestMapping("api/v1/security")
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing jwtKeyRing;
+
+    @Operation(
+            summary = "Публичные ключи подписи",
+            description = "JWK Set для локальной проверки access токенов другими сервисами (только асимметричные ключи)"
+    )
+    @GetMapping("/jwks")
+    public Map<String, Object> getJwks() {
+        List<Map<String, ?>> keys = jwtKeyRing.getPublicKeys().entrySet().stream()
+                .<Map<String, ?>>map(entry -> Jwks.builder().key(entry.getValue()).id(entry.getKey()).build())
+                .toList();
+        return Map.of("keys", keys);
+    }
+}
@@ -1,5 +1,6 @@
 package system.task_management.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,9 +14,13 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import system.task_management.repository.UserAccountRepository;
+import system.task_management.model.dto.UserAccountSummaryDto;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.model.RoleUser;
 import system.task_management.security.model.UserAccountDetails;
 import system.task_management.service.redis.RedisService;
+import system.task_management.service.redis.TokenEpochService;
+import system.task_management.service.user.UserDirectory;
 
 import java.io.IOException;
 import java.util.Optional;
@@ -25,8 +30,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
     private final RedisService redisService;
-    private final UserAccountRepository userAccountRepository;
+    private final TokenEpochService tokenEpochService;
+    private final UserDirectory userDirectory;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,16 +41,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String jwt = jwtUtil.extractTokenFromRequest(request);
+        Optional<Claims> claimsOpt = jwtUtil.extractVerifiedClaims(jwt);
 
-        if (jwtUtil.validateToken(jwt) && !redisService.isTokenBlacklisted(jwt)) {
-            Optional<String> emailOpt = jwtUtil.extractEmailIfValid(jwt);
-
-            if (emailOpt.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String email = emailOpt.get();
-                try {
-                    UserDetails userDetails = UserAccountDetails.fromUserAccount(userAccountRepository.findByEmail(email)
-                            .orElseThrow(() -> new UsernameNotFoundException("User not found. Email: " + email)));
+        if (claimsOpt.isPresent()
+                && SecurityContextHolder.getContext().getAuthentication() == null
+                && !redisService.isTokenBlacklisted(claimsOpt.get(), jwt)
+                && !tokenEpochService.isRevoked(claimsOpt.get())) {
+            String email = claimsOpt.get().getSubject();
+            try {
+                UserDetails userDetails = jwtProperties.isStatelessAuth()
+                        ? loadUserDetailsFromClaims(claimsOpt.get())
+                        : UserAccountDetails.fromSummary(userDirectory.findByEmail(email)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found. Email: " + email)));
 
+                if (!userDetails.isEnabled()) {
+                    log.warn("User account is not active. Email: {}", email);
+                } else {
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -53,15 +66,28 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
-
-                } catch (UsernameNotFoundException ex) {
-                    log.warn("User not found for email: {}", email);
-                } catch (Exception ex) {
-                    log.error("Auth filter error on URI: {}", request.getRequestURI(), ex);
                 }
+
+            } catch (UsernameNotFoundException ex) {
+                log.warn("User not found for email: {}", email);
+            } catch (Exception ex) {
+                log.error("Auth filter error on URI: {}", request.getRequestURI(), ex);
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadUserDetailsFromClaims(Claims claims) {
+        String email = claims.getSubject();
+        UserAccountStatus status = userDirectory.findByEmail(email)
+                .map(UserAccountSummaryDto::status)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found. Email: " + email));
+
+        RoleUser role = RoleUser.fromRoleClaim(claims.get("role", String.class));
+        Number permissionMask = claims.get(JwtUtil.PERMISSIONS_CLAIM, Number.class);
+
+        return UserAccountDetails.fromClaims(
+                email, role, permissionMask == null ? role.getPermissionMask() : permissionMask.intValue(), status);
+    }
 }
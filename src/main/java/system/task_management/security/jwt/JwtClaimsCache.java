@@ -0,0 +1,85 @@
+package system.task_management.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Already verified claims keyed by token digest, together with the id of the key that verified them.
+ * An entry lives until the token's "exp" or the key's verifyUntil, whichever comes first, and every hit
+ * re-checks the key against {@link JwtKeyRing}, so a hit never returns claims of an expired token or of a
+ * retired key and skips signature verification entirely. The key ring is fixed for the life of the process.
+ * Stats are published as cache.gets / cache.evictions with tag cache=jwt.claims.
+ */
+@Component
+public class JwtClaimsCache {
+    private final Cache<String, Entry> cache;
+    private final JwtKeyRing jwtKeyRing;
+
+    public JwtClaimsCache(JwtProperties jwtProperties, JwtKeyRing jwtKeyRing, MeterRegistry meterRegistry) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getClaimsCacheSize())
+                .expireAfter(new ExpireAtEntryExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.claims");
+    }
+
+    public Claims get(String token) {
+        String digest = TokenDigests.sha256(token);
+        Entry entry = cache.getIfPresent(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (!jwtKeyRing.canVerify(entry.keyId())) {
+            cache.invalidate(digest);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    /**
+     * @param keyId "kid" header of the token, null for tokens signed with the legacy secret
+     */
+    public void put(String token, String keyId, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        long expiresAt = claims.getExpiration().getTime();
+        Instant verifyUntil = jwtKeyRing.getVerifyUntil(keyId);
+        if (verifyUntil != null) {
+            expiresAt = Math.min(expiresAt, verifyUntil.toEpochMilli());
+        }
+        cache.put(TokenDigests.sha256(token), new Entry(claims, keyId, expiresAt));
+    }
+
+    private record Entry(Claims claims, String keyId, long expiresAtMillis) {
+    }
+
+    private static class ExpireAtEntryExpiration implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
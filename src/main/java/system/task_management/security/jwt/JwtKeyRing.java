@@ -0,0 +1,163 @@
+package system.task_management.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * All signing/verification keys decoded once at startup.
+ * New tokens are signed with the active key and carry its id in the "kid" header,
+ * verification picks the key by "kid", so old keys keep verifying until their tokens expire.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+    public static final String LEGACY_KEY_ID = "default";
+
+    private final Map<String, VerificationKey> verificationKeys;
+    @Getter
+    private final Map<String, PublicKey> publicKeys;
+    @Getter
+    private final String activeKeyId;
+    @Getter
+    private final Key activeSigningKey;
+    @Getter
+    private final JwtParser parser;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        Map<String, VerificationKey> verification = new HashMap<>();
+        Map<String, PublicKey> publicKeyMap = new LinkedHashMap<>();
+        Map<String, Key> signing = new HashMap<>();
+
+        if (StringUtils.hasText(jwtProperties.getSecret())) {
+            Key legacy = hmacKey(LEGACY_KEY_ID, jwtProperties.getSecret());
+            verification.put(LEGACY_KEY_ID, new VerificationKey(legacy, null));
+            signing.put(LEGACY_KEY_ID, legacy);
+        }
+
+        for (JwtProperties.SigningKey key : jwtProperties.getKeys()) {
+            if (!StringUtils.hasText(key.getId())) {
+                throw new IllegalStateException("JWT key without id in properties.jwt.keys");
+            }
+            if (verification.containsKey(key.getId())) {
+                throw new IllegalStateException("Duplicate JWT key id: " + key.getId());
+            }
+            if (key.getAlgorithm() == null) {
+                throw new IllegalStateException("JWT key has no algorithm. Id: " + key.getId());
+            }
+            if (key.getAlgorithm() == JwtProperties.KeyAlgorithm.HMAC) {
+                Key secret = hmacKey(key.getId(), key.getSecret());
+                verification.put(key.getId(), new VerificationKey(secret, key.getVerifyUntil()));
+                signing.put(key.getId(), secret);
+                continue;
+            }
+            if (!StringUtils.hasText(key.getPublicKey())) {
+                throw new IllegalStateException("JWT key has no public-key for " + key.getAlgorithm()
+                        + ". Id: " + key.getId());
+            }
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(
+                        key.getAlgorithm() == JwtProperties.KeyAlgorithm.EC ? "EC" : "Ed25519");
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+                verification.put(key.getId(), new VerificationKey(publicKey, key.getVerifyUntil()));
+                publicKeyMap.put(key.getId(), publicKey);
+                if (StringUtils.hasText(key.getPrivateKey())) {
+                    signing.put(key.getId(), keyFactory.generatePrivate(
+                            new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey()))));
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.error("Failed to load JWT key. Id: {}", key.getId());
+                throw new IllegalStateException("Failed to load JWT key. Id: " + key.getId(), e);
+            }
+        }
+
+        this.activeKeyId = jwtProperties.getActiveKeyId();
+        this.activeSigningKey = signing.get(activeKeyId);
+        if (activeSigningKey == null) {
+            log.error("Active JWT signing key is not configured. Id: {}", activeKeyId);
+            throw new IllegalStateException("Active JWT signing key is not configured. Id: " + activeKeyId);
+        }
+
+        this.verificationKeys = Map.copyOf(verification);
+        this.publicKeys = Collections.unmodifiableMap(publicKeyMap);
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return findVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+
+        log.info("JWT key ring loaded. Active key: {}, verification keys: {}", activeKeyId, verificationKeys.keySet());
+    }
+
+    /**
+     * Tokens issued before "kid" was introduced have no header and are checked with the legacy secret.
+     */
+    public Key findVerificationKey(String keyId) {
+        VerificationKey key = verificationKeys.get(keyId == null ? LEGACY_KEY_ID : keyId);
+        if (key == null) {
+            throw new JwtException("Unknown JWT key id: " + keyId);
+        }
+        if (isRetired(key)) {
+            throw new JwtException("JWT key is retired: " + keyId);
+        }
+        return key.key();
+    }
+
+    /**
+     * Same check as {@link #findVerificationKey} without the exception, for tokens that were verified earlier.
+     */
+    public boolean canVerify(String keyId) {
+        VerificationKey key = verificationKeys.get(keyId == null ? LEGACY_KEY_ID : keyId);
+        return key != null && !isRetired(key);
+    }
+
+    /**
+     * Moment the key stops verifying, null if it verifies forever or is unknown.
+     */
+    public Instant getVerifyUntil(String keyId) {
+        VerificationKey key = verificationKeys.get(keyId == null ? LEGACY_KEY_ID : keyId);
+        return key == null ? null : key.verifyUntil();
+    }
+
+    /**
+     * Missing, non-Base64 or too short (under 256 bits) secrets fail startup with the key id in the message.
+     */
+    private static Key hmacKey(String keyId, String secret) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("JWT key has no secret for HMAC. Id: " + keyId);
+        }
+        try {
+            return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        } catch (IllegalArgumentException | JwtException e) {
+            log.error("Failed to load JWT key. Id: {}", keyId);
+            throw new IllegalStateException("Failed to load JWT key. Id: " + keyId + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isRetired(VerificationKey key) {
+        return key.verifyUntil() != null && key.verifyUntil().isBefore(Instant.now());
+    }
+
+    private record VerificationKey(Key key, Instant verifyUntil) {
+    }
+}
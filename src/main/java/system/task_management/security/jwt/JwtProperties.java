@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @ConfigurationProperties("properties.jwt")
@@ -11,4 +15,43 @@ public class JwtProperties {
     private String secret;
     private long expirationTime;
     private long refreshInterval;
+    private long claimsCacheSize = 10_000;
+
+    /**
+     * Build the principal from token claims instead of loading UserAccount on every request.
+     */
+    private boolean statelessAuth = true;
+    /**
+     * Upper bound for how long a node may miss a revoke-all event.
+     */
+    private long epochCacheTtl = 60;
+    /**
+     * "redis" or "jpa", see {@link system.task_management.security.repository.RefreshTokenStore}.
+     */
+    private String refreshStore = "redis";
+
+    /**
+     * Key used to sign new tokens. The legacy {@link #secret} is registered under id "default".
+     */
+    private String activeKeyId = JwtKeyRing.LEGACY_KEY_ID;
+    private List<SigningKey> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class SigningKey {
+        private String id;
+        private KeyAlgorithm algorithm = KeyAlgorithm.HMAC;
+        /** Base64 HMAC secret. */
+        private String secret;
+        /** Base64 PKCS#8 private key, only needed on the node that signs. */
+        private String privateKey;
+        /** Base64 X.509 public key. */
+        private String publicKey;
+        /** After this moment the key no longer verifies tokens. Empty - verify forever. */
+        private Instant verifyUntil;
+    }
+
+    public enum KeyAlgorithm {
+        HMAC, EC, ED25519
+    }
 }
@@ -2,20 +2,18 @@ package system.task_management.security.jwt;
 
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import system.task_management.model.UserAccount;
-import system.task_management.security.model.Permission;
 import system.task_management.security.model.RoleUser;
-import system.task_management.service.redis.RedisService;
+import system.task_management.service.redis.TokenEpochService;
 
-import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.*;
 
@@ -23,34 +21,66 @@ import java.util.*;
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
+    /**
+     * {@link system.task_management.security.model.Permission} bitmask.
+     */
+    public static final String PERMISSIONS_CLAIM = "perms";
+
     private final JwtProperties jwtProperties;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final JwtKeyRing jwtKeyRing;
+    private final TokenEpochService tokenEpochService;
 
     public String generateToken(UserAccount userAccount) {
-        String email = userAccount.getEmail();
-        Map<String, Object> claims = getAccessesByRole(userAccount.getRole());
+        return generateToken(userAccount.getEmail(), userAccount.getRole());
+    }
+
+    public String generateToken(String email, RoleUser role) {
+        Map<String, Object> claims = getAccessesByRole(role);
         Instant now = Instant.now();
 
         if (!StringUtils.hasText(email)) {
             log.warn("Generate JWT token failed, email: {}, claims: {}", email, claims);
             throw new JwtException("Generate JWT token failed, email: " + email);
         }
+        claims.put(TokenEpochService.CLAIM, tokenEpochService.currentEpoch(email));
 
         return Jwts.builder()
+                .header().keyId(jwtKeyRing.getActiveKeyId()).and()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plusSeconds(jwtProperties.getExpirationTime())))
-                .signWith(getSigningKey())
+                .signWith(jwtKeyRing.getActiveSigningKey())
                 .compact();
     }
 
     public boolean validateToken(String token) {
+        return extractVerifiedClaims(token).isPresent();
+    }
+
+    /**
+     * Verifies the signature and required claims once per token; repeated calls for the same token
+     * are answered from {@link JwtClaimsCache} until the token expires.
+     */
+    public Optional<Claims> extractVerifiedClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        Claims cached = jwtClaimsCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            Claims claims = extractClaims(token);
+            Jws<Claims> jws = jwtKeyRing.getParser().parseSignedClaims(token);
+            Claims claims = jws.getPayload();
 
-            if (isTokenExpired(token)) {
-                log.warn("Token is expired: {}", token);
-                return false;
+            if (claims.getExpiration() == null || claims.getExpiration().before(new Date())) {
+                log.warn("Token is expired. Subject: {}", claims.getSubject());
+                return Optional.empty();
             }
 
             String email = claims.getSubject();
@@ -58,13 +88,14 @@ public class JwtUtil {
 
             if (!StringUtils.hasText(email) || !StringUtils.hasText(role)) {
                 log.warn("Token is missing required claims: email={}, role={}", email, role);
-                return false;
+                return Optional.empty();
             }
 
-            return true;
+            jwtClaimsCache.put(token, jws.getHeader().getKeyId(), claims);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -80,23 +111,20 @@ public class JwtUtil {
     private Map<String, Object> getAccessesByRole(RoleUser roleUser) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", "ROLE_" + roleUser.name());
-
-        List<String> permissions = roleUser.getPermissions().stream()
-                .map(Permission::getPermission)
-                .toList();
-        claims.put("permissions", permissions);
+        claims.put(PERMISSIONS_CLAIM, roleUser.getPermissionMask());
 
         return claims;
     }
 
     public Optional<String> extractEmailIfValid(String token) {
-        if (!validateToken(token)) return Optional.empty();
-        try {
-            return Optional.ofNullable(extractEmail(token));
-        } catch (Exception e) {
-            log.warn("Failed to extract email from token: {}", e.getMessage());
-            return Optional.empty();
-        }
+        return extractVerifiedClaims(token).map(Claims::getSubject);
+    }
+
+    /**
+     * Short stable id of a token for the blacklist: "jti", or a digest for tokens issued before "jti" was added.
+     */
+    public String extractBlacklistId(Claims claims, String token) {
+        return StringUtils.hasText(claims.getId()) ? claims.getId() : TokenDigests.sha256(token);
     }
 
     public String extractEmail(String token) {
@@ -112,9 +140,7 @@ public class JwtUtil {
             log.warn("Token is null or empty");
             throw new IllegalArgumentException("Token is null or empty");
         }
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtKeyRing.getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -126,13 +152,4 @@ public class JwtUtil {
         }
         return Objects.requireNonNull(extractClaims(token)).getExpiration().before(new Date());
     }
-
-    private SecretKey getSigningKey() {
-        byte[] encodeKey = Base64.getDecoder().decode(jwtProperties.getSecret());
-        if (encodeKey == null) {
-            log.error("Secret key is null");
-            throw new SecurityException("Secret key is null");
-        }
-        return Keys.hmacShaKeyFor(encodeKey);
-    }
 }
@@ -2,6 +2,9 @@ package system.task_management.security.model;
 
 import lombok.Getter;
 
+import java.util.Collection;
+import java.util.EnumSet;
+
 @Getter
 public enum Permission {
     WRITE("permission:write"),
@@ -11,8 +14,40 @@ public enum Permission {
     STATUS("permission:status"),
     DELETE("permission:delete");
     private final String permission;
+    /**
+     * Bit of this permission in the "perms" token claim. Tied to the declaration order: only append new constants.
+     */
+    private final int mask;
 
     Permission(String permission) {
         this.permission = permission;
+        this.mask = 1 << ordinal();
+    }
+
+    public static int toMask(Collection<Permission> permissions) {
+        int mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+
+    public static EnumSet<Permission> fromMask(int mask) {
+        EnumSet<Permission> permissions = EnumSet.noneOf(Permission.class);
+        for (Permission permission : values()) {
+            if ((mask & permission.mask) != 0) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+
+    public static Permission fromAuthority(String authority) {
+        for (Permission permission : values()) {
+            if (permission.permission.equals(authority)) {
+                return permission;
+            }
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,9 @@ package system.task_management.security.model;
 import lombok.Getter;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Getter
 public enum RoleUser {
@@ -16,16 +17,37 @@ public enum RoleUser {
     USER(Set.of(Permission.COMMENT, Permission.STATUS));
 
     private final Set<Permission> permissions;
+    private final int permissionMask;
+    /**
+     * Built once per role and shared by every authenticated request.
+     */
+    private final List<SimpleGrantedAuthority> authorities;
+    /**
+     * Immutable authority lists of this role for every possible "perms" mask, indexed by the mask.
+     */
+    private final List<List<SimpleGrantedAuthority>> authoritiesByMask;
 
     RoleUser(Set<Permission> permissions) {
         this.permissions = permissions;
+        this.permissionMask = Permission.toMask(permissions);
+
+        List<List<SimpleGrantedAuthority>> byMask = new ArrayList<>();
+        for (int mask = 0; mask < 1 << Permission.values().length; mask++) {
+            List<SimpleGrantedAuthority> maskAuthorities = new ArrayList<>();
+            Permission.fromMask(mask)
+                    .forEach(permission -> maskAuthorities.add(new SimpleGrantedAuthority(permission.getPermission())));
+            maskAuthorities.add(new SimpleGrantedAuthority("ROLE_" + this.name()));
+            byMask.add(List.copyOf(maskAuthorities));
+        }
+        this.authoritiesByMask = List.copyOf(byMask);
+        this.authorities = authoritiesByMask.get(permissionMask);
+    }
+
+    public List<SimpleGrantedAuthority> getAuthorities(int permissionMask) {
+        return authoritiesByMask.get(permissionMask & ((1 << Permission.values().length) - 1));
     }
 
-    public Set<SimpleGrantedAuthority> getAuthorities() {
-        Set<SimpleGrantedAuthority> authorities = permissions.stream()
-                .map(permission -> new SimpleGrantedAuthority(permission.getPermission()))
-                .collect(Collectors.toSet());
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + this.name()));
-        return authorities;
+    public static RoleUser fromRoleClaim(String roleClaim) {
+        return RoleUser.valueOf(roleClaim.startsWith("ROLE_") ? roleClaim.substring("ROLE_".length()) : roleClaim);
     }
-}
\ No newline at end of file
+}
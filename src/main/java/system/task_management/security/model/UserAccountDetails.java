@@ -4,6 +4,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import system.task_management.model.UserAccount;
+import system.task_management.model.dto.UserAccountSummaryDto;
 import system.task_management.model.enums.UserAccountStatus;
 
 import java.util.Collection;
@@ -15,24 +16,77 @@ public class UserAccountDetails implements UserDetails {
     private final String password;
     private final List<SimpleGrantedAuthority> authorities;
     private final boolean isActive;
+    private final int permissionMask;
 
     public UserAccountDetails(
             String username, String password, List<SimpleGrantedAuthority> authorities, boolean isActive) {
+        this(username, password, authorities, isActive, maskOf(authorities));
+    }
+
+    public UserAccountDetails(String username, String password, List<SimpleGrantedAuthority> authorities,
+                              boolean isActive, int permissionMask) {
         this.username = username;
         this.password = password;
         this.authorities = authorities;
         this.isActive = isActive;
+        this.permissionMask = permissionMask;
     }
 
     public static UserAccountDetails fromUserAccount(UserAccount userAccount) {
         return new UserAccountDetails(
                 userAccount.getEmail(), // просили использовать email
                 userAccount.getPassword(),
-                List.copyOf(userAccount.getRole().getAuthorities()),
-                userAccount.getUserAccountStatus().equals(UserAccountStatus.ACTIVE)
+                userAccount.getRole().getAuthorities(),
+                userAccount.getUserAccountStatus().equals(UserAccountStatus.ACTIVE),
+                userAccount.getRole().getPermissionMask()
+        );
+    }
+
+    /**
+     * Principal for an already authenticated token, the password is never needed here.
+     */
+    public static UserAccountDetails fromSummary(UserAccountSummaryDto user) {
+        return new UserAccountDetails(
+                user.email(),
+                null,
+                user.role().getAuthorities(),
+                UserAccountStatus.ACTIVE.equals(user.status()),
+                user.role().getPermissionMask()
+        );
+    }
+
+    /**
+     * Stateless variant: everything comes from verified token claims, the password is never needed here.
+     */
+    public static UserAccountDetails fromClaims(
+            String email, RoleUser role, int permissionMask, UserAccountStatus status) {
+        return new UserAccountDetails(
+                email,
+                null,
+                role.getAuthorities(permissionMask),
+                UserAccountStatus.ACTIVE.equals(status),
+                permissionMask
         );
     }
 
+    /**
+     * Permissions as a {@link Permission} bitmask, checked by {@code @RequiresPermission} without string matching.
+     */
+    public int getPermissionMask() {
+        return permissionMask;
+    }
+
+    private static int maskOf(List<SimpleGrantedAuthority> authorities) {
+        int mask = 0;
+        for (SimpleGrantedAuthority authority : authorities) {
+            Permission permission = Permission.fromAuthority(authority.getAuthority());
+            if (permission != null) {
+                mask |= permission.getMask();
+            }
+        }
+        return mask;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
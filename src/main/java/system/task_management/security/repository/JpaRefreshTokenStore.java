@@ -0,0 +1,72 @@
+package system.task_management.security.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import system.task_management.exception.InvalidRefreshTokenException;
+import system.task_management.exception.RefreshTokenEntityNotFound;
+import system.task_management.exception.RefreshTokenExpiredException;
+import system.task_management.security.jwt.JwtProperties;
+import system.task_management.security.model.RefreshToken;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "properties.jwt.refresh-store", havingValue = "jpa")
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties jwtProperties;
+
+    @Transactional
+    @Override
+    public String issue(String email) {
+        RefreshToken refreshToken = refreshTokenRepository.findByEmail(email)
+                .orElseGet(() -> RefreshToken.builder().email(email).build());
+        refreshToken.setToken(UUID.randomUUID().toString());
+        refreshToken.setExpiresAt(Instant.now().plusMillis(jwtProperties.getRefreshInterval()));
+
+        return refreshTokenRepository.save(refreshToken).getToken();
+    }
+
+    @Transactional
+    @Override
+    public String rotate(String email, String token) {
+        RefreshToken refreshToken = refreshTokenRepository.findByToken(token)
+                .orElseThrow(() -> new RefreshTokenEntityNotFound("Token not found"));
+
+        if (!refreshToken.getEmail().equals(email)) {
+            log.error("Email from UserAccount and RefreshRequest Email do not match");
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
+
+        if (refreshToken.getExpiresAt().isBefore(Instant.now())) {
+            log.info("Refresh token expired.");
+            refreshTokenRepository.delete(refreshToken);
+            throw new RefreshTokenExpiredException("Refresh token expired");
+        }
+
+        refreshToken.setToken(UUID.randomUUID().toString());
+        refreshToken.setExpiresAt(Instant.now().plusMillis(jwtProperties.getRefreshInterval()));
+
+        return refreshTokenRepository.save(refreshToken).getToken();
+    }
+
+    @Transactional
+    @Override
+    public void revoke(String email, String token) {
+        refreshTokenRepository.findByToken(token)
+                .filter(refreshToken -> refreshToken.getEmail().equals(email))
+                .ifPresent(refreshTokenRepository::delete);
+    }
+
+    @Transactional
+    @Override
+    public void revokeAll(String email) {
+        refreshTokenRepository.deleteByEmail(email);
+    }
+}
@@ -0,0 +1,126 @@
+package system.task_management.security.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import system.task_management.exception.InvalidRefreshTokenException;
+import system.task_management.exception.RefreshTokenEntityNotFound;
+import system.task_management.security.jwt.JwtProperties;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Refresh tokens in Redis, one key family per email: refresh:{email}:current -> the live token and
+ * refresh:{email}:rotated -> set of tokens already swapped for a newer one, both with a native TTL, so expired
+ * tokens disappear by themselves. The hash tag keeps a family in one cluster slot and every key is passed in KEYS.
+ * Every change is a single Lua script, so a token can be rotated only once; presenting a rotated token again
+ * means it was copied, and the whole family is revoked.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "properties.jwt.refresh-store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+    private static final String KEY_PREFIX = "refresh:";
+
+    /**
+     * A new family: earlier tokens of the email stop working and are no longer tracked.
+     * KEYS: current key, rotated key. ARGV: new token, ttl ms.
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: current key, rotated key. ARGV: token, new token, ttl ms.
+     * Returns 1 when rotated, 0 when the token is unknown or expired, -1 when it was already rotated; the family
+     * is then revoked.
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SADD', KEYS[2], ARGV[1])
+                redis.call('PEXPIRE', KEYS[2], ARGV[3])
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return -1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: current key, rotated key. ARGV: token.
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtProperties jwtProperties;
+
+    public RedisRefreshTokenStore(
+            @Qualifier("customRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            JwtProperties jwtProperties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.jwtProperties = jwtProperties;
+    }
+
+    @Override
+    public String issue(String email) {
+        String token = UUID.randomUUID().toString();
+        redisTemplate.execute(ISSUE_SCRIPT, familyKeys(email),
+                token, String.valueOf(jwtProperties.getRefreshInterval()));
+        return token;
+    }
+
+    /**
+     * A token issued to another email is not in this email's family and is reported as not found.
+     */
+    @Override
+    public String rotate(String email, String refreshToken) {
+        String token = UUID.randomUUID().toString();
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, familyKeys(email),
+                refreshToken, token, String.valueOf(jwtProperties.getRefreshInterval()));
+
+        if (result == null || result == 0) {
+            log.info("Refresh token not found or expired. Email: {}", email);
+            throw new RefreshTokenEntityNotFound("Token not found");
+        }
+        if (result < 0) {
+            log.warn("Rotated refresh token presented again, all refresh tokens revoked. Email: {}", email);
+            throw new InvalidRefreshTokenException("Refresh token reuse detected");
+        }
+        return token;
+    }
+
+    @Override
+    public void revoke(String email, String refreshToken) {
+        Long result = redisTemplate.execute(REVOKE_SCRIPT, familyKeys(email), refreshToken);
+
+        if (result == null || result == 0) {
+            log.warn("Refresh token for revoke not found. Email: {}", email);
+        }
+    }
+
+    @Override
+    public void revokeAll(String email) {
+        redisTemplate.delete(familyKeys(email));
+    }
+
+    private static List<String> familyKeys(String email) {
+        String family = KEY_PREFIX + "{" + email + "}";
+        return List.of(family + ":current", family + ":rotated");
+    }
+}
@@ -0,0 +1,22 @@
+package system.task_management.security.repository;
+
+/**
+ * Storage of refresh tokens, one active token per email.
+ * Implementation is selected by properties.jwt.refresh-store: "redis" (default) or "jpa".
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Issues a new refresh token for the email, the previous one stops working.
+     */
+    String issue(String email);
+
+    /**
+     * Checks that the token is alive and belongs to the email and swaps it for a new one.
+     */
+    String rotate(String email, String refreshToken);
+
+    void revoke(String email, String refreshToken);
+
+    void revokeAll(String email);
+}
@@ -0,0 +1,74 @@
+package system.task_management.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import system.task_management.exception.TooManyLoginAttemptsException;
+import system.task_management.security.configuration.PasswordProperties;
+
+import java.util.List;
+
+/**
+ * Failed login counters per email and per client IP, shared by all nodes through Redis.
+ * Throttled requests are rejected before any password hashing happens.
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+    private static final String EMAIL_KEY_PREFIX = "login:attempts:email:";
+    private static final String IP_KEY_PREFIX = "login:attempts:ip:";
+
+    /**
+     * Increments a counter and starts its window on the first attempt in one step, so a counter is never left
+     * without a TTL. One key per call: the email and IP counters may live in different cluster slots.
+     * KEYS[1]: counter. ARGV[1]: window in seconds.
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+            local attempts = redis.call('INCR', KEYS[1])
+            if attempts == 1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return attempts
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PasswordProperties properties;
+
+    public LoginAttemptService(
+            @Qualifier("customRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            PasswordProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    public void checkAllowed(String email, String clientIp) {
+        List<String> counters = redisTemplate.opsForValue()
+                .multiGet(List.of(EMAIL_KEY_PREFIX + email, IP_KEY_PREFIX + clientIp));
+
+        if (counters != null && (exceeds(counters.get(0), properties.getMaxAttemptsPerEmail())
+                || exceeds(counters.get(1), properties.getMaxAttemptsPerIp()))) {
+            log.warn("Too many login attempts. Email: {}, ip: {}", email, clientIp);
+            throw new TooManyLoginAttemptsException("Too many login attempts. Email: " + email);
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        increment(EMAIL_KEY_PREFIX + email);
+        increment(IP_KEY_PREFIX + clientIp);
+    }
+
+    public void recordSuccess(String email) {
+        redisTemplate.delete(EMAIL_KEY_PREFIX + email);
+    }
+
+    private void increment(String key) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(key), String.valueOf(properties.getAttemptsWindow()));
+    }
+
+    private boolean exceeds(String counter, int limit) {
+        return counter != null && Long.parseLong(counter) >= limit;
+    }
+}
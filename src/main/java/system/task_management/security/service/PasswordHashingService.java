@@ -0,0 +1,100 @@
+package system.task_management.security.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import system.task_management.exception.PasswordHashingOverloadedException;
+import system.task_management.security.configuration.PasswordProperties;
+
+import java.util.concurrent.*;
+
+/**
+ * Runs BCrypt on a small dedicated pool, so a burst of logins cannot take every core from the task API.
+ * When the queue is full the caller gets {@link PasswordHashingOverloadedException} (503) immediately.
+ * <p>
+ * A timeout only releases the caller. BCrypt does not check for interruption, so a hash that has started keeps
+ * its thread until it finishes; only a task still waiting in the queue is dropped. The timeout must therefore
+ * stay well above one hash at the configured strength, otherwise timed-out work keeps the pool busy while new
+ * requests are turned away.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder, PasswordProperties properties, MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = properties.getHashingTimeout();
+        this.executor = new ThreadPoolExecutor(
+                properties.getHashingThreads(), properties.getHashingThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getHashingQueueCapacity()),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * True when the stored hash was made with a lower work factor than the configured one.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full. Queue size: {}", executor.getQueue().size());
+            throw new PasswordHashingOverloadedException("Password hashing queue is full");
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if it is still queued; a running BCrypt would ignore the interrupt anyway.
+            future.cancel(false);
+            log.warn("Password hashing timed out after {} ms", timeout);
+            throw new PasswordHashingOverloadedException("Password hashing timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException("Password hashing interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
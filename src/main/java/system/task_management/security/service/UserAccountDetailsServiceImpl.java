@@ -1,39 +1,36 @@
 package system.task_management.security.service;
 
-import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import system.task_management.exception.*;
-import system.task_management.mapper.CustomUserAccountMapper;
 import system.task_management.model.UserAccount;
+import system.task_management.model.dto.UserAccountSummaryDto;
 import system.task_management.model.enums.UserAccountStatus;
 import system.task_management.repository.UserAccountRepository;
-import system.task_management.security.jwt.JwtProperties;
+import system.task_management.repository.UserAccountRepository.UserCredentials;
 import system.task_management.security.jwt.JwtUtil;
-import system.task_management.security.model.RefreshToken;
 import system.task_management.security.model.RoleUser;
 import system.task_management.security.model.UserAccountDetails;
 import system.task_management.security.model.dto.*;
-import system.task_management.security.repository.RefreshTokenRepository;
-
-import java.time.Instant;
-import java.util.UUID;
+import system.task_management.security.repository.RefreshTokenStore;
+import system.task_management.service.user.UserAccountService;
+import system.task_management.service.user.UserDirectory;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserAccountDetailsServiceImpl implements UserDetailsService {
     private final UserAccountRepository userAccountRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtProperties jwtProperties;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptService loginAttemptService;
     private final JwtUtil jwtUtil;
+    private final UserDirectory userDirectory;
+    private final UserAccountService userAccountService;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -42,14 +39,16 @@ public class UserAccountDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
     }
 
-    @Transactional
+    /**
+     * Not transactional: the hash is computed before the insert, so no connection waits on the hashing pool.
+     */
     public RegisterResponseDto registerUser(CreateUserRequestDto requestRegisterDto, RoleUser roleUser) {
         if (userAccountRepository.existsByEmail(requestRegisterDto.getEmail())) {
             log.error("Email already exists.");
             throw new EmailAlreadyExistsException(requestRegisterDto.getEmail());
         }
 
-        String encodedPassword = passwordEncoder.encode(requestRegisterDto.getPassword());
+        String encodedPassword = passwordHashingService.encode(requestRegisterDto.getPassword());
         UserAccount userAccount = UserAccount.builder()
                 .email(requestRegisterDto.getEmail())
                 .password(encodedPassword)
@@ -59,6 +58,7 @@ public class UserAccountDetailsServiceImpl implements UserDetailsService {
                 .userAccountStatus(UserAccountStatus.ACTIVE)
                 .build();
         userAccount = userAccountRepository.save(userAccount);
+        userDirectory.evictAfterCommit(userAccount.getId(), userAccount.getEmail());
         String token = jwtUtil.generateToken(userAccount);
 
         log.info("User account register is successful. Email: {}.", userAccount.getEmail());
@@ -66,79 +66,58 @@ public class UserAccountDetailsServiceImpl implements UserDetailsService {
         return new RegisterResponseDto(token, userAccount.getEmail());
     }
 
-    @Transactional
-    public LoginResponseDto login(LoginRequestDto requestLoginDto) {
-        UserAccount userAccount = userAccountRepository.findByEmail(requestLoginDto.getEmail())
-                .orElseThrow(() -> new UsernameNotFoundException(
-                        "Данный пользователь не зарегистрирован. Email:" + requestLoginDto.getEmail()));
-        if (!passwordEncoder.matches(requestLoginDto.getPassword(), userAccount.getPassword())) {
+    /**
+     * Not transactional: every query commits on its own, so no pooled connection is held while BCrypt runs.
+     */
+    public LoginResponseDto login(LoginRequestDto requestLoginDto, String clientIp) {
+        String email = requestLoginDto.getEmail();
+        loginAttemptService.checkAllowed(email, clientIp);
+
+        UserCredentials credentials = userAccountRepository.findCredentialsByEmail(email)
+                .orElseThrow(() -> {
+                    loginAttemptService.recordFailure(email, clientIp);
+                    return new UsernameNotFoundException(
+                            "Данный пользователь не зарегистрирован. Email:" + email);
+                });
+        if (!passwordHashingService.matches(requestLoginDto.getPassword(), credentials.getPassword())) {
+            loginAttemptService.recordFailure(email, clientIp);
             throw new IllegalArgumentException("Неверный пароль");
         }
+        loginAttemptService.recordSuccess(email);
 
-        RefreshToken refreshToken = refreshTokenRepository.findByEmail(requestLoginDto.getEmail())
-                .orElse(null);
-        if (refreshToken != null) {
-            refreshToken.setToken(UUID.randomUUID().toString());
-            refreshToken.setExpiresAt(Instant.now().plusMillis(jwtProperties.getRefreshInterval()));
-        } else {
-            refreshToken = RefreshToken.builder()
-                    .token(UUID.randomUUID().toString())
-                    .email(requestLoginDto.getEmail())
-                    .expiresAt(Instant.now().plusMillis(jwtProperties.getRefreshInterval()))
-                    .build();
+        if (passwordHashingService.needsRehash(credentials.getPassword())) {
+            String rehashed = passwordHashingService.encode(requestLoginDto.getPassword());
+            userAccountRepository.updatePassword(credentials.getId(), rehashed);
+            log.info("Password re-hashed with current work factor. Email: {}.", email);
         }
-        refreshToken = refreshTokenRepository.save(refreshToken);
 
-        log.info("User login. Email: {}.", userAccount.getEmail());
+        String refreshToken = refreshTokenStore.issue(email);
+
+        log.info("User login. Email: {}.", email);
 
         return LoginResponseDto.builder()
-                .userAccountResponseDto(CustomUserAccountMapper.toResponseDto(userAccount))
-                .token(jwtUtil.generateToken(userAccount))
-                .refreshToken(refreshToken.getToken())
+                .userAccountResponseDto(userAccountService.getUserAccountByEmail(email))
+                .token(jwtUtil.generateToken(email, credentials.getRole()))
+                .refreshToken(refreshToken)
                 .build();
     }
 
-    @Transactional
     public RefreshTokenResponseDto refreshAccessToken(RefreshTokenRequestDto requestDto) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(requestDto.getRefreshToken())
-                .orElseThrow(() -> new RefreshTokenEntityNotFound(
-                        "Token not found"));
-
-        if (!refreshToken.getEmail().equals(requestDto.getEmail())) {
-            log.error("Email from UserAccount and RefreshRequest Email do not match");
-            throw new EmailAlreadyExistsException(requestDto.getEmail());
-        }
-
-        if (refreshToken.getExpiresAt().isBefore(Instant.ofEpochSecond(jwtProperties.getRefreshInterval()))) {
-            log.info("Refresh token expired.");
-            refreshTokenRepository.delete(refreshToken);
-            throw new RefreshTokenExpiredException("Refresh token expired");
-        }
-
-        refreshToken.setToken(UUID.randomUUID().toString());
-        refreshToken.setExpiresAt(Instant.now().plusMillis(jwtProperties.getRefreshInterval()));
-
-        refreshToken = refreshTokenRepository.save(refreshToken);
+        String refreshToken = refreshTokenStore.rotate(requestDto.getEmail(), requestDto.getRefreshToken());
 
-        String newAccessToken = jwtUtil.generateToken(userAccountRepository.findByEmail(requestDto.getEmail())
-        .orElseThrow(() -> new UserEntityNotFound("User not found")));
-        log.info("Successfully issued aces_token for user: {}", refreshToken.getEmail());
+        RoleUser role = userDirectory.findByEmail(requestDto.getEmail())
+                .map(UserAccountSummaryDto::role)
+                .orElseThrow(() -> new UserEntityNotFound("User not found"));
+        String newAccessToken = jwtUtil.generateToken(requestDto.getEmail(), role);
+        log.info("Successfully issued aces_token for user: {}", requestDto.getEmail());
 
         return RefreshTokenResponseDto.builder()
                 .token(newAccessToken)
-                .refreshToken(refreshToken.getToken())
+                .refreshToken(refreshToken)
                 .build();
     }
 
-    @Transactional
     public void logout(RefreshTokenRequestDto refreshDto) {
-        UserAccount userAccount = userAccountRepository.findByEmail(refreshDto.getEmail())
-                .orElseThrow(() -> new UserEntityNotFound("User not found. Email: " + refreshDto.getEmail()));
-
-        if (userAccount.getEmail().equals(refreshDto.getEmail())) {
-            refreshTokenRepository.deleteByToken(refreshDto.getRefreshToken());
-        } else {
-            throw new InvalidRefreshTokenException("Invalid refresh token");
-        }
+        refreshTokenStore.revoke(refreshDto.getEmail(), refreshDto.getRefreshToken());
     }
 }
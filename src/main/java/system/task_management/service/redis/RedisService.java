@@ -1,29 +1,31 @@
 package system.task_management.service.redis;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import system.task_management.model.properties.RedisProperties;
 import system.task_management.security.jwt.JwtUtil;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 public class RedisService {
     private final JwtUtil jwtUtil;
-    private final RedisProperties properties;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistNearCache blacklistNearCache;
 
     public RedisService(
-            JwtUtil jwtUtil, RedisProperties properties,
-            @Qualifier("customRedisTemplate") RedisTemplate<String, String> redisTemplate
+            JwtUtil jwtUtil,
+            @Qualifier("customRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            TokenBlacklistNearCache blacklistNearCache
     ) {
         this.jwtUtil = jwtUtil;
-        this.properties = properties;
         this.redisTemplate = redisTemplate;
+        this.blacklistNearCache = blacklistNearCache;
     }
 
     /**
@@ -32,38 +34,46 @@ public class RedisService {
      * @param request
      */
     public void addTokenToBlackList(HttpServletRequest request) {
-        if (request.getHeader("Authorization") != null) {
-            String token = request.getHeader("Authorization").substring(7);
-            String email = jwtUtil.extractEmail(token);
+        String token = jwtUtil.extractTokenFromRequest(request);
+        Optional<Claims> claims = jwtUtil.extractVerifiedClaims(token);
 
-            putTokenToBlacklist(token);
+        if (claims.isPresent()) {
+            putTokenToBlacklist(claims.get(), token);
 
-            log.info("Added token to blacklist. Email: {}", email);
+            log.info("Added token to blacklist. Email: {}", claims.get().getSubject());
         } else {
             log.warn(
-                    "No Authorization header found in request. Bad added token to blacklist. Request: {}",
-                    request.getHeaderNames()
+                    "No valid token found in request. Bad added token to blacklist. Request: {}",
+                    request.getRequestURI()
             );
         }
     }
 
-    public boolean isTokenBlacklisted(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + token));
+    public boolean isTokenBlacklisted(Claims claims, String token) {
+        return blacklistNearCache.isBlacklisted(jwtUtil.extractBlacklistId(claims, token));
     }
 
+    /**
+     * The key is the token id (jti), not the token itself, and lives only as long as the token could still be used.
+     */
+    private void putTokenToBlacklist(Claims claims, String token) {
+        long expiresAt = claims.getExpiration().getTime();
+        long ttl = expiresAt - System.currentTimeMillis();
+        String blacklistId = jwtUtil.extractBlacklistId(claims, token);
 
-    private void putTokenToBlacklist(String token) {
-        if (token == null) {
-            throw new IllegalArgumentException("Token cannot be null");
+        if (ttl <= 0) {
+            log.info("Token already expired, blacklist is not needed. Id: {}", blacklistId);
+            return;
         }
 
-        String key = "blacklist:" + token;
+        String key = TokenBlacklistNearCache.KEY_PREFIX + blacklistId;
 
         if (Boolean.TRUE.equals(redisTemplate.opsForValue()
-                .setIfAbsent(key, "blacklisted", properties.expiration(), TimeUnit.SECONDS))) {
-            log.info("Token added to blacklist: {}", token);
+                .setIfAbsent(key, "1", ttl, TimeUnit.MILLISECONDS))) {
+            blacklistNearCache.publish(blacklistId, expiresAt);
+            log.info("Token added to blacklist. Id: {}", blacklistId);
         } else {
-            log.warn("Failed to add token to blacklist: {}", token);
+            log.warn("Token is already in blacklist. Id: {}", blacklistId);
         }
     }
 }
@@ -0,0 +1,194 @@
+package system.task_management.service.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import system.task_management.security.jwt.TokenDigests;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local copy of the Redis blacklist (token digest -> expiration time).
+ * Every node publishes additions to {@link #CHANNEL}, so while the copy is in sync a token that is
+ * not in it is known to be valid without a Redis round trip. Decisions go to Redis until the first
+ * successful full resync, and again whenever the copy may have missed an event: a failed resync, a lost
+ * subscription or an event that could not be applied. The next resync while subscribed restores it.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistNearCache implements MessageListener, SubscriptionListener {
+    public static final String CHANNEL = "blacklist:events";
+    public static final String KEY_PREFIX = "blacklist:";
+    private static final int RESYNC_BATCH = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, Long> blacklisted = new ConcurrentHashMap<>();
+    private final Counter localDecisions;
+    private final Counter remoteDecisions;
+    private volatile boolean synced;
+
+    public TokenBlacklistNearCache(
+            @Qualifier("customRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.localDecisions = Counter.builder("token.blacklist.decisions").tag("source", "local")
+                .register(meterRegistry);
+        this.remoteDecisions = Counter.builder("token.blacklist.decisions").tag("source", "remote")
+                .register(meterRegistry);
+        Gauge.builder("token.blacklist.near.size", blacklisted, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * The first resync runs from {@link #onChannelSubscribed} once the container is listening.
+     */
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean isBlacklisted(String blacklistId) {
+        if (!synced) {
+            remoteDecisions.increment();
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + blacklistId));
+        }
+        localDecisions.increment();
+        Long expiresAt = blacklisted.get(TokenDigests.sha256(blacklistId));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Called after the entry is stored in Redis, informs this and every other node.
+     */
+    public void publish(String blacklistId, long expiresAtMillis) {
+        String digest = TokenDigests.sha256(blacklistId);
+        blacklisted.put(digest, expiresAtMillis);
+        redisTemplate.convertAndSend(CHANNEL, digest + ":" + expiresAtMillis);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            blacklisted.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            desync("Blacklist event could not be applied: " + body);
+        }
+    }
+
+    /**
+     * Events published before the subscription is active are not delivered, so every (re)subscribe reloads.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (isOwnChannel(channel)) {
+            resync();
+        }
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        if (isOwnChannel(channel)) {
+            desync("Blacklist subscription lost");
+        }
+    }
+
+    /**
+     * Full reload from Redis. Runs on startup and periodically, which also covers events
+     * missed while the pub/sub connection was down.
+     */
+    @Scheduled(
+            initialDelayString = "${spring.data.redis.blacklist-resync-interval:30000}",
+            fixedDelayString = "${spring.data.redis.blacklist-resync-interval:30000}"
+    )
+    public void resync() {
+        if (!listenerContainer.isListening()) {
+            desync("Blacklist listener is not subscribed");
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Long> fresh = new HashMap<>();
+        List<String> batch = new ArrayList<>(RESYNC_BATCH);
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(RESYNC_BATCH).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == RESYNC_BATCH) {
+                    loadExpirations(batch, now, fresh);
+                }
+            }
+            loadExpirations(batch, now, fresh);
+        } catch (Exception e) {
+            desync("Blacklist resync failed: " + e.getMessage());
+            return;
+        }
+
+        blacklisted.putAll(fresh);
+        blacklisted.values().removeIf(expiresAt -> expiresAt <= now);
+        if (!listenerContainer.isListening()) {
+            desync("Blacklist listener is not subscribed");
+            return;
+        }
+        if (!synced) {
+            log.info("Blacklist near-cache in sync. Entries: {}", blacklisted.size());
+        }
+        synced = true;
+    }
+
+    /**
+     * PTTL of the whole batch in one pipelined round trip. Clears the batch.
+     */
+    private void loadExpirations(List<String> batch, long now, Map<String, Long> fresh) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : batch) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        for (int i = 0; i < batch.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                fresh.put(TokenDigests.sha256(batch.get(i).substring(KEY_PREFIX.length())), now + ttl);
+            }
+        }
+        batch.clear();
+    }
+
+    private void desync(String reason) {
+        if (synced) {
+            log.error("{}, falling back to Redis lookups", reason);
+        }
+        synced = false;
+    }
+
+    private static boolean isOwnChannel(byte[] channel) {
+        return Arrays.equals(channel, CHANNEL.getBytes(StandardCharsets.UTF_8));
+    }
+}
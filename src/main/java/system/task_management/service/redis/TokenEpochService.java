@@ -0,0 +1,97 @@
+package system.task_management.service.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import system.task_management.security.jwt.JwtProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Per-user token generation ("epoch"). Every access token carries the epoch it was issued with,
+ * incrementing the counter in Redis revokes all earlier tokens of the user at once.
+ * Nodes keep the epochs locally and receive increments through {@link #CHANNEL}.
+ */
+@Slf4j
+@Service
+public class TokenEpochService implements MessageListener {
+    public static final String CLAIM = "epoch";
+    private static final String CHANNEL = "token:epoch:events";
+    private static final String KEY_PREFIX = "token:epoch:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LoadingCache<String, Long> epochs;
+
+    public TokenEpochService(
+            @Qualifier("customRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getClaimsCacheSize())
+                .expireAfterWrite(Duration.ofSeconds(jwtProperties.getEpochCacheTtl()))
+                .recordStats()
+                .build(this::loadEpoch);
+        CaffeineCacheMetrics.monitor(meterRegistry, epochs, "token.epoch");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public long currentEpoch(String email) {
+        return epochs.get(email);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        Number tokenEpoch = claims.get(CLAIM, Number.class);
+        return (tokenEpoch == null ? 0L : tokenEpoch.longValue()) < currentEpoch(claims.getSubject());
+    }
+
+    /**
+     * Invalidates every access token issued to the user so far.
+     */
+    public long revokeAll(String email) {
+        Long epoch = redisTemplate.opsForValue().increment(KEY_PREFIX + email);
+        long newEpoch = epoch == null ? 0L : epoch;
+        epochs.put(email, newEpoch);
+        redisTemplate.convertAndSend(CHANNEL, newEpoch + ":" + email);
+
+        log.info("All tokens revoked. Email: {}, epoch: {}", email, newEpoch);
+        return newEpoch;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("Malformed token epoch event: {}", body);
+            return;
+        }
+        long epoch = Long.parseLong(body.substring(0, separator));
+        epochs.asMap().merge(body.substring(separator + 1), epoch, Math::max);
+    }
+
+    private Long loadEpoch(String email) {
+        String epoch = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+        return epoch == null ? 0L : Long.parseLong(epoch);
+    }
+}
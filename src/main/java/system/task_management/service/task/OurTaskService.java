@@ -3,7 +3,12 @@ package system.task_management.service.task;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Page;
+import system.task_management.model.CommentTimelineResponse;
+import system.task_management.model.CursorPageResponse;
+import system.task_management.model.PageResponse;
+import system.task_management.model.TaskSearchResponse;
 import system.task_management.model.dto.*;
+import system.task_management.model.enums.PageCountMode;
 import system.task_management.model.enums.TaskPriority;
 import system.task_management.model.enums.TaskStatus;
 
@@ -15,10 +20,30 @@ public interface OurTaskService {
 
     Page<CommentResponseDto> getTaskComments(Long taskId, int page, int size);
 
+    PageResponse<CommentResponseDto> getTaskComments(Long taskId, int page, int size, PageCountMode countMode);
+
+    /**
+     * Keyset slice of the comment timeline: the newest comments, the ones {@code before} a cursor, or the ones
+     * {@code after} a poll cursor that were not returned yet. At most one of the cursors may be given.
+     */
+    CommentTimelineResponse getCommentTimeline(Long taskId, String before, String after, int size);
+
     Page<OurTaskResponseDto> getTasksByFilters(TaskFilterDto taskFilterDto);
 
+    PageResponse<OurTaskResponseDto> getTasksByFilters(TaskFilterDto taskFilterDto, PageCountMode countMode);
+
+    CursorPageResponse<OurTaskResponseDto> scrollTasksByFilters(TaskFilterDto taskFilterDto, String cursor);
+
+    TaskSearchResponse searchTasks(String query, int size, String cursor);
+
     OurTaskResponseDto getTaskById(Long id);
 
+    /**
+     * Current version of the task for conditional requests, read from the row without loading the task.
+     * Never taken from a cache: a stale version would answer 304 for a task that has changed.
+     */
+    Long getTaskVersion(Long id);
+
     OurTaskResponseDto assignPerformerToTask(Long taskId, Long userId);
 
     OurTaskResponseDto removePerformerFromTask(Long taskId, Long userId);
@@ -29,9 +54,28 @@ public interface OurTaskService {
 
     OurTaskResponseDto setPriority(Long taskId, TaskPriority priority);
 
+    /**
+     * Single-statement status change guarded by the version the caller has seen.
+     *
+     * @return the new version of the task
+     * @throws system.task_management.exception.TaskVersionConflictException if the task is at another version
+     */
+    long updateStatus(Long taskId, TaskStatus status, long expectedVersion);
+
+    /**
+     * Priority counterpart of {@link #updateStatus}.
+     */
+    long updatePriority(Long taskId, TaskPriority priority, long expectedVersion);
+
     OurTaskResponseDto updateTask(OurTaskRequestDto requestDto);
 
     OurTaskResponseDto addComment(String email, Long taskId, String comment);
 
+    /**
+     * Adds a comment of a performer or an administrator and returns only that comment. Costs the same
+     * whatever the number of existing comments: the task and its collections are never loaded.
+     */
+    CommentResponseDto appendComment(String email, Long taskId, String comment);
+
     OurTaskResponseDto removeComment(String email, Long taskId, Long commentId);
 }
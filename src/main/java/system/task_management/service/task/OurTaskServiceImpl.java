@@ -3,87 +3,186 @@ package system.task_management.service.task;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
+import system.task_management.exception.InvalidCursorException;
 import system.task_management.exception.TaskNotFoundException;
+import system.task_management.exception.TaskVersionConflictException;
 import system.task_management.exception.UserEntityNotFound;
 import system.task_management.mapper.CustomOurTaskMapper;
 import system.task_management.mapper.CustomTaskCommentMapper;
 import system.task_management.mapper.CustomUserAccountMapper;
+import system.task_management.model.CommentTimelineResponse;
+import system.task_management.model.CursorPageResponse;
 import system.task_management.model.OurTask;
+import system.task_management.model.PageResponse;
 import system.task_management.model.TaskComment;
+import system.task_management.model.TaskSearchResponse;
 import system.task_management.model.UserAccount;
 import system.task_management.model.dto.*;
+import system.task_management.model.enums.PageCountMode;
 import system.task_management.model.enums.TaskPriority;
 import system.task_management.model.enums.TaskStatus;
+import system.task_management.model.properties.PagingProperties;
 import system.task_management.repository.OurTaskRepository;
 import system.task_management.repository.TaskCommentRepository;
+import system.task_management.repository.TaskSearchRepository;
+import system.task_management.repository.TaskSearchRepository.SearchResult;
 import system.task_management.repository.UserAccountRepository;
 import system.task_management.security.model.RoleUser;
+import system.task_management.service.user.UserDirectory;
 import system.task_management.specification.TaskSpecifications;
+import system.task_management.util.KeysetCursor;
+import system.task_management.util.SearchCursor;
+import system.task_management.util.TimelinePollCursor;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OurTaskServiceImpl implements OurTaskService {
+    private static final String OUR_TASK_TABLE = "our_task";
+    /**
+     * Keyset order of the scroll mode, backed by idx_our_task_created_at_id.
+     */
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final TaskCommentRepository taskCommentRepository;
     private final OurTaskRepository ourTaskRepository;
     private final UserAccountRepository userAccountRepository;
+    private final TaskSearchRepository taskSearchRepository;
+    private final PageCountEstimator pageCountEstimator;
+    private final TaskDtoCache taskDtoCache;
+    private final UserDirectory userDirectory;
+    private final PlatformTransactionManager transactionManager;
+    private final PagingProperties pagingProperties;
 
     @Transactional
     @Override
     public OurTaskResponseDto createTask(OurTaskRequestDto requestDto) {
         OurTask ourTask = CustomOurTaskMapper.createOurTask(requestDto);
-        ourTask.setAuthor(userAccountRepository.findByEmail(requestDto.authorEmail())
-                .orElseThrow(() -> new UserEntityNotFound("User Not Found. Email: " + requestDto.authorEmail())));
+        UserAccountSummaryDto author = userDirectory.findByEmail(requestDto.authorEmail())
+                .orElseThrow(() -> new UserEntityNotFound("User Not Found. Email: " + requestDto.authorEmail()));
+        ourTask.setAuthor(userAccountRepository.getReferenceById(author.id()));
         ourTask.setTaskStatus(TaskStatus.PENDING);
 
         ourTask = ourTaskRepository.save(ourTask);
-        return CustomOurTaskMapper.toResponseDto(ourTask);
+        return CustomOurTaskMapper.toResponseDto(ourTask, author.email());
     }
 
     @Transactional
     @Override
     public Page<OurTaskResponseDto> getTasksByFilters(TaskFilterDto taskFilterDto) {
-        Specification<OurTask> spec = Specification.where(null);
+        return ourTaskRepository.findAll(TaskSpecifications.fromFilter(taskFilterDto),
+                        PageRequest.of(taskFilterDto.page(), taskFilterDto.size(), taskFilterDto.toSort()))
+                .map(CustomOurTaskMapper::toResponseDto);
+    }
 
-        if (!taskFilterDto.email().isBlank()) {
-            spec = spec.and(TaskSpecifications.hasEmail(taskFilterDto.email()));
-        }
-        if (taskFilterDto.status() != null) {
-            spec = spec.and(TaskSpecifications.hasStatus(taskFilterDto.status()));
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<OurTaskResponseDto> getTasksByFilters(TaskFilterDto taskFilterDto, PageCountMode countMode) {
+        if (countMode == PageCountMode.EXACT) {
+            return PageResponse.of(getTasksByFilters(taskFilterDto));
         }
-        if (taskFilterDto.startDate() != null && taskFilterDto.endDate() != null) {
-            spec = spec.and(TaskSpecifications.inDateRange(taskFilterDto.startDate(), taskFilterDto.endDate()));
+        Specification<OurTask> spec = TaskSpecifications.fromFilter(taskFilterDto);
+        Slice<OurTaskResponseDto> slice = ourTaskRepository
+                .findSlice(spec, PageRequest.of(taskFilterDto.page(), taskFilterDto.size(), taskFilterDto.toSort()))
+                .map(CustomOurTaskMapper::toResponseDto);
+
+        if (countMode == PageCountMode.NONE) {
+            return PageResponse.ofSlice(slice);
         }
-        if (StringUtils.hasText(taskFilterDto.title())) {
-            spec = spec.and(TaskSpecifications.hasTitleLike(taskFilterDto.title()));
+        long estimate = taskFilterDto.hasFilters()
+                ? pageCountEstimator.cachedCount(taskFilterDto.withoutPaging(), () -> ourTaskRepository.count(spec))
+                : pageCountEstimator.tableEstimate(OUR_TASK_TABLE, ourTaskRepository::count);
+        return PageResponse.ofEstimate(slice, estimate);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<OurTaskResponseDto> scrollTasksByFilters(TaskFilterDto taskFilterDto, String cursor) {
+        ScrollPosition position = StringUtils.hasText(cursor)
+                ? KeysetCursor.decode(cursor).toScrollPosition()
+                : ScrollPosition.keyset();
+
+        Window<OurTask> window = ourTaskRepository.findBy(TaskSpecifications.fromFilter(taskFilterDto), query -> query
+                .sortBy(KEYSET_SORT)
+                .limit(taskFilterDto.size())
+                .project("author")
+                .scroll(position));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            OurTask last = window.getContent().get(window.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
         }
+        return new CursorPageResponse<>(
+                window.map(CustomOurTaskMapper::toResponseDto).getContent(),
+                window.size(),
+                nextCursor,
+                window.hasNext());
+    }
 
-        return ourTaskRepository.findAll(spec, PageRequest.of(taskFilterDto.page(), taskFilterDto.size()))
-                .map(CustomOurTaskMapper::toResponseDto);
+    @Transactional(readOnly = true)
+    @Override
+    public TaskSearchResponse searchTasks(String query, int size, String cursor) {
+        SearchCursor after = StringUtils.hasText(cursor) ? SearchCursor.decode(cursor) : null;
+        SearchResult result = taskSearchRepository.search(query.trim(), after, size + 1);
+        List<TaskSearchHitDto> hits = result.hits();
+
+        boolean hasNext = hits.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+            TaskSearchHitDto last = hits.get(hits.size() - 1);
+            nextCursor = new SearchCursor(last.rank(), last.id()).encode();
+        }
+        return new TaskSearchResponse(hits, hits.size(), nextCursor, hasNext, result.truncated());
     }
 
-    @Transactional
+    /**
+     * Not transactional: a cache hit needs no connection, only the loader runs in a read-only transaction.
+     */
     @Override
     public OurTaskResponseDto getTaskById(Long id) {
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + id)));
+        return taskDtoCache.get(id, () -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            return transaction.execute(status -> CustomOurTaskMapper.toResponseDto(ourTaskRepository.findDetailById(id)
+                    .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + id))));
+        });
+    }
+
+    @Override
+    public Long getTaskVersion(Long id) {
+        return ourTaskRepository.findVersionById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + id));
     }
 
     @Transactional
     @Override
     public OurTaskResponseDto assignPerformerToTask(Long taskId, Long userId) {
-        OurTask ourTask = ourTaskRepository.findById(taskId)
+        OurTask ourTask = ourTaskRepository.findDetailById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + taskId));
 
         if (!userAccountRepository.existsById(userId)) {
@@ -91,29 +190,35 @@ public class OurTaskServiceImpl implements OurTaskService {
             throw new UserEntityNotFound("User not found. id=" + userId);
         }
 
-        UserAccount userAccount = userAccountRepository.getReferenceById(userId);
-        ourTask.getPerformers().add(userAccount);
-        userAccount.getOurTasks().add(ourTask);
+        if (ourTask.getPerformers().stream().noneMatch(performer -> userId.equals(performer.getId()))) {
+            UserAccount userAccount = userAccountRepository.getReferenceById(userId);
+            ourTask.getPerformers().add(userAccount);
+            userAccount.getOurTasks().add(ourTask);
+            ourTaskRepository.forceVersionIncrement(ourTask);
+        }
 
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.save(ourTask));
+        taskDtoCache.evictAfterCommit(taskId);
+        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.saveAndFlush(ourTask));
     }
 
     @Transactional
     @Override
     public OurTaskResponseDto removePerformerFromTask(Long taskId, Long userId) {
-        OurTask task = ourTaskRepository.findById(taskId)
+        OurTask task = ourTaskRepository.findDetailById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + taskId));
         UserAccount userAccount = userAccountRepository.getReferenceById(userId);
         task.getPerformers().remove(userAccount);
         userAccount.getOurTasks().remove(task);
+        ourTaskRepository.forceVersionIncrement(task);
 
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.save(task));
+        taskDtoCache.evictAfterCommit(taskId);
+        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.saveAndFlush(task));
     }
 
     @Transactional
     @Override
     public List<UserAccountShortDto> getPerformersFromTaskId(Long id) {
-        OurTask task = ourTaskRepository.findById(id)
+        OurTask task = ourTaskRepository.findWithPerformersById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + id));
 
         if (task.getPerformers() != null && !task.getPerformers().isEmpty()) {
@@ -125,69 +230,117 @@ public class OurTaskServiceImpl implements OurTaskService {
     @Transactional
     @Override
     public OurTaskResponseDto setStatus(Long taskId, TaskStatus status) {
-        OurTask task = ourTaskRepository.findById(taskId)
+        OurTask task = ourTaskRepository.findDetailById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + taskId));
         task.setTaskStatus(status);
 
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.save(task));
+        taskDtoCache.evictAfterCommit(taskId);
+        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.saveAndFlush(task));
     }
 
     @Transactional
     @Override
     public OurTaskResponseDto setPriority(Long taskId, TaskPriority priority) {
-        OurTask task = ourTaskRepository.findById(taskId)
+        OurTask task = ourTaskRepository.findDetailById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + taskId));
         task.setTaskPriority(priority);
 
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.save(task));
+        taskDtoCache.evictAfterCommit(taskId);
+        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.saveAndFlush(task));
+    }
+
+    @Transactional
+    @Override
+    public long updateStatus(Long taskId, TaskStatus status, long expectedVersion) {
+        return afterVersionedUpdate(taskId, expectedVersion,
+                ourTaskRepository.updateStatus(taskId, status, expectedVersion, Instant.now()));
+    }
+
+    @Transactional
+    @Override
+    public long updatePriority(Long taskId, TaskPriority priority, long expectedVersion) {
+        return afterVersionedUpdate(taskId, expectedVersion,
+                ourTaskRepository.updatePriority(taskId, priority, expectedVersion, Instant.now()));
     }
 
     @Transactional
     @Override
     public OurTaskResponseDto updateTask(OurTaskRequestDto requestDto) {
-        OurTask task = ourTaskRepository.findByTitle(requestDto.title())
+        OurTask task = ourTaskRepository.findDetailByTitle(requestDto.title())
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. Title: " + requestDto.title()));
         task.setDescription(requestDto.description());
         task.setTaskPriority(requestDto.priority());
 
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.save(task));
+        taskDtoCache.evictAfterCommit(task.getId());
+        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.saveAndFlush(task));
     }
 
     @Transactional
     @Override
     public OurTaskResponseDto addComment(String email, Long taskId, String comment) {
-        UserAccount userAccount = userAccountRepository.findByEmail(email)
+        UserAccountSummaryDto user = userDirectory.findByEmail(email)
                 .orElseThrow(() -> new UserEntityNotFound("User not found. Email: " + email));
-        OurTask ourTask = ourTaskRepository.findById(taskId)
+        OurTask ourTask = ourTaskRepository.findDetailById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. Id: "+ taskId));
 
         if (ourTask.getComments() == null) {
             ourTask.setComments(new ArrayList<>());
         }
 
-        if (ourTask.getPerformers().contains(userAccount)
-                || userAccount.getRole().name().equals(RoleUser.ADMIN.toString())) {
-            TaskComment taskComment = TaskComment.builder().ourTask(ourTask).author(userAccount).text(comment).build();
+        if (mayComment(ourTask, user)) {
+            TaskComment taskComment = TaskComment.builder()
+                    .ourTask(ourTask)
+                    .author(userAccountRepository.getReferenceById(user.id()))
+                    .text(comment)
+                    .build();
             ourTask.getComments().add(taskComment);
+            ourTaskRepository.forceVersionIncrement(ourTask);
+        }
+        taskDtoCache.evictAfterCommit(taskId);
+        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.saveAndFlush(ourTask));
+    }
+
+    @Transactional
+    @Override
+    public CommentResponseDto appendComment(String email, Long taskId, String comment) {
+        UserAccountSummaryDto user = userDirectory.findByEmail(email)
+                .orElseThrow(() -> new UserEntityNotFound("User not found. Email: " + email));
+        // Authorize with plain reads first: the version bump locks the task row until commit.
+        if (user.role() != RoleUser.ADMIN && !ourTaskRepository.isPerformer(taskId, user.id())) {
+            if (!ourTaskRepository.existsById(taskId)) {
+                throw new TaskNotFoundException("Task not found. Id: " + taskId);
+            }
+            throw new AccessDeniedException("Only performers may comment. Task id: " + taskId);
+        }
+        if (ourTaskRepository.incrementVersion(taskId) == 0) {
+            throw new TaskNotFoundException("Task not found. Id: " + taskId);
         }
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.save(ourTask));
+
+        TaskComment taskComment = taskCommentRepository.save(TaskComment.builder()
+                .ourTask(ourTaskRepository.getReferenceById(taskId))
+                .author(userAccountRepository.getReferenceById(user.id()))
+                .text(comment)
+                .build());
+        taskDtoCache.evictAfterCommit(taskId);
+        return CustomTaskCommentMapper.toDto(taskComment);
     }
 
     @Transactional
     @Override
     public OurTaskResponseDto removeComment(String email, Long taskId, Long commentId) {
-        UserAccount userAccount = userAccountRepository.findByEmail(email)
+        UserAccountSummaryDto user = userDirectory.findByEmail(email)
                 .orElseThrow(() -> new UserEntityNotFound("User not found. Email: " + email));
-        OurTask ourTask = ourTaskRepository.findById(taskId)
+        OurTask ourTask = ourTaskRepository.findDetailById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found. Id: "+ taskId));
 
-        if (ourTask.getPerformers().contains(userAccount)
-                || userAccount.getRole().name().equals(RoleUser.ADMIN.toString())) {
+        if (mayComment(ourTask, user)) {
             TaskComment taskComment = taskCommentRepository.findById(commentId)
                     .orElseThrow(() -> new EntityNotFoundException("Comment not found. id:" + commentId));
             ourTask.getComments().remove(taskComment);
+            ourTaskRepository.forceVersionIncrement(ourTask);
         }
-        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.save(ourTask));
+        taskDtoCache.evictAfterCommit(taskId);
+        return CustomOurTaskMapper.toResponseDto(ourTaskRepository.saveAndFlush(ourTask));
     }
 
     @Transactional
@@ -199,4 +352,131 @@ public class OurTaskServiceImpl implements OurTaskService {
         return commentsPage.map(CustomTaskCommentMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<CommentResponseDto> getTaskComments(Long taskId, int page, int size, PageCountMode countMode) {
+        if (countMode == PageCountMode.EXACT) {
+            return PageResponse.of(getTaskComments(taskId, page, size));
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Slice<CommentResponseDto> slice = taskCommentRepository.findSliceByOurTaskId(taskId, pageable)
+                .map(CustomTaskCommentMapper::toDto);
+
+        if (countMode == PageCountMode.NONE) {
+            return PageResponse.ofSlice(slice);
+        }
+        return PageResponse.ofEstimate(slice, pageCountEstimator.cachedCount(
+                new CommentCountKey(taskId), () -> taskCommentRepository.countByOurTaskId(taskId)));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CommentTimelineResponse getCommentTimeline(Long taskId, String before, String after, int size) {
+        if (StringUtils.hasText(before) && StringUtils.hasText(after)) {
+            throw new InvalidCursorException("Only one of before and after may be given");
+        }
+        if (StringUtils.hasText(after)) {
+            return pollTimeline(taskId, after, size);
+        }
+
+        Limit limit = Limit.of(size + 1);
+        boolean firstPage = !StringUtils.hasText(before);
+        List<CommentTimelineDto> rows;
+        if (firstPage) {
+            rows = taskCommentRepository.findTimeline(taskId, limit);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(before);
+            rows = taskCommentRepository.findTimelineBefore(taskId, cursor.createdAt(), cursor.id(), limit);
+        }
+        boolean hasMore = rows.size() > size;
+        List<CommentTimelineDto> content = hasMore ? rows.subList(0, size) : rows;
+        String olderCursor = hasMore ? cursorOf(content.get(content.size() - 1)) : null;
+        String newerCursor = null;
+        if (firstPage && !content.isEmpty()) {
+            CommentTimelineDto newest = content.get(0);
+            Instant windowStart = newest.createdAt().minus(timelinePollOverlap());
+            newerCursor = new TimelinePollCursor(newest.createdAt(), newest.id(), content.stream()
+                    .filter(comment -> comment.createdAt().isAfter(windowStart))
+                    .map(CommentTimelineDto::id)
+                    .collect(Collectors.toSet())).encode();
+        }
+        return new CommentTimelineResponse(content, content.size(), olderCursor, newerCursor, hasMore);
+    }
+
+    /**
+     * Re-reads the overlap window behind the newest comment returned so far and returns, oldest first, what
+     * the cursor has not seen. The next cursor remembers the ids returned inside the moved window.
+     */
+    private CommentTimelineResponse pollTimeline(Long taskId, String after, int size) {
+        TimelinePollCursor cursor = TimelinePollCursor.decode(after);
+        Duration overlap = timelinePollOverlap();
+        Limit limit = Limit.of(size + 1 + cursor.seenIds().size());
+        List<CommentTimelineDto> rows = taskCommentRepository.findTimelineSince(
+                taskId, cursor.createdAt().minus(overlap), limit);
+
+        List<CommentTimelineDto> fresh = rows.stream()
+                .filter(comment -> !cursor.seenIds().contains(comment.id()))
+                .toList();
+        boolean hasMore = fresh.size() > size;
+        List<CommentTimelineDto> content = hasMore ? fresh.subList(0, size) : fresh;
+        if (content.isEmpty()) {
+            return new CommentTimelineResponse(content, 0, null, after, false);
+        }
+
+        Instant newestAt = cursor.createdAt();
+        long newestId = cursor.id();
+        CommentTimelineDto last = content.get(content.size() - 1);
+        if (last.createdAt().isAfter(newestAt) || (last.createdAt().equals(newestAt) && last.id() > newestId)) {
+            newestAt = last.createdAt();
+            newestId = last.id();
+        }
+        Instant windowStart = newestAt.minus(overlap);
+        Set<Long> returned = content.stream().map(CommentTimelineDto::id).collect(Collectors.toSet());
+        Set<Long> seenIds = new HashSet<>();
+        Set<Long> readIds = new HashSet<>();
+        for (CommentTimelineDto comment : rows) {
+            readIds.add(comment.id());
+            if ((returned.contains(comment.id()) || cursor.seenIds().contains(comment.id()))
+                    && comment.createdAt().isAfter(windowStart)) {
+                seenIds.add(comment.id());
+            }
+        }
+        if (rows.size() == limit.max()) {
+            // the read stopped early: seen comments past it are still in the window
+            cursor.seenIds().stream().filter(id -> !readIds.contains(id)).forEach(seenIds::add);
+        }
+        String newerCursor = new TimelinePollCursor(newestAt, newestId, seenIds).encode();
+        return new CommentTimelineResponse(content, content.size(), null, newerCursor, hasMore);
+    }
+
+    /**
+     * A missed compare-and-set costs one more primary-key read to tell an absent task from a conflict.
+     */
+    private long afterVersionedUpdate(Long taskId, long expectedVersion, int updatedRows) {
+        if (updatedRows == 0) {
+            Long currentVersion = ourTaskRepository.findVersionById(taskId)
+                    .orElseThrow(() -> new TaskNotFoundException("Task not found. id=" + taskId));
+            log.info("Task version conflict. id={}, expected={}, current={}", taskId, expectedVersion, currentVersion);
+            throw new TaskVersionConflictException(taskId, currentVersion);
+        }
+        taskDtoCache.evictAfterCommit(taskId);
+        return expectedVersion + 1;
+    }
+
+    private Duration timelinePollOverlap() {
+        return Duration.ofSeconds(pagingProperties.getTimelinePollOverlap());
+    }
+
+    private static String cursorOf(CommentTimelineDto comment) {
+        return new KeysetCursor(comment.createdAt(), comment.id()).encode();
+    }
+
+    private static boolean mayComment(OurTask ourTask, UserAccountSummaryDto user) {
+        return user.role() == RoleUser.ADMIN
+                || ourTask.getPerformers().stream().anyMatch(performer -> user.id().equals(performer.getId()));
+    }
+
+    private record CommentCountKey(Long taskId) {
+    }
+
 }
@@ -0,0 +1,49 @@
+package system.task_management.service.task;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import system.task_management.model.properties.PagingProperties;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals for {@link system.task_management.model.enums.PageCountMode#ESTIMATED}. A filtered count runs
+ * once per key and is reused for count-cache-ttl seconds; an unfiltered table size comes from the planner
+ * statistics and costs no scan at all.
+ */
+@Component
+public class PageCountEstimator {
+    private static final String RELTUPLES_QUERY = "select reltuples::bigint from pg_class where oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Object, Long> counts;
+
+    public PageCountEstimator(JdbcTemplate jdbcTemplate, PagingProperties pagingProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(pagingProperties.getCountCacheSize())
+                .expireAfterWrite(Duration.ofSeconds(pagingProperties.getCountCacheTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "page.counts");
+    }
+
+    public long cachedCount(Object key, LongSupplier exactCount) {
+        return counts.get(key, k -> exactCount.getAsLong());
+    }
+
+    /**
+     * Falls back to the cached exact count while the table has not been analyzed yet (reltuples is -1 or 0).
+     */
+    public long tableEstimate(String table, LongSupplier exactCount) {
+        long estimate = jdbcTemplate.queryForList(RELTUPLES_QUERY, Long.class, table).stream()
+                .findFirst()
+                .orElse(-1L);
+        return estimate > 0 ? estimate : cachedCount(table, exactCount);
+    }
+}
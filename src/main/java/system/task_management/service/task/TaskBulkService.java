@@ -0,0 +1,13 @@
+package system.task_management.service.task;
+
+import system.task_management.model.dto.BulkTaskRequestDto;
+import system.task_management.model.dto.BulkTaskResultDto;
+
+public interface TaskBulkService {
+
+    BulkTaskResultDto setStatus(BulkTaskRequestDto request);
+
+    BulkTaskResultDto setPriority(BulkTaskRequestDto request);
+
+    BulkTaskResultDto assignPerformers(BulkTaskRequestDto request);
+}
@@ -0,0 +1,155 @@
+package system.task_management.service.task;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.CollectionUtils;
+import system.task_management.exception.InvalidBulkRequestException;
+import system.task_management.exception.UserEntityNotFound;
+import system.task_management.model.dto.BulkItemResultDto;
+import system.task_management.model.dto.BulkTaskRequestDto;
+import system.task_management.model.dto.BulkTaskResultDto;
+import system.task_management.model.enums.BulkItemOutcome;
+import system.task_management.model.properties.BulkProperties;
+import system.task_management.repository.OurTaskRepository;
+import system.task_management.repository.TaskBulkRepository;
+import system.task_management.specification.TaskSpecifications;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bulk task changes in chunks of properties.bulk.chunk-size, each chunk in its own transaction.
+ * A failing chunk is rolled back alone and its tasks are reported as FAILED; earlier chunks stay committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskBulkServiceImpl implements TaskBulkService {
+    private static final String METRIC = "task.bulk";
+
+    private final TaskBulkRepository taskBulkRepository;
+    private final OurTaskRepository ourTaskRepository;
+    private final TaskDtoCache taskDtoCache;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkProperties bulkProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public BulkTaskResultDto setStatus(BulkTaskRequestDto request) {
+        if (request.status() == null) {
+            throw new InvalidBulkRequestException("status is required");
+        }
+        return run("status", request, chunk -> taskBulkRepository.setStatus(chunk, request.status()));
+    }
+
+    @Override
+    public BulkTaskResultDto setPriority(BulkTaskRequestDto request) {
+        if (request.priority() == null) {
+            throw new InvalidBulkRequestException("priority is required");
+        }
+        return run("priority", request, chunk -> taskBulkRepository.setPriority(chunk, request.priority()));
+    }
+
+    @Override
+    public BulkTaskResultDto assignPerformers(BulkTaskRequestDto request) {
+        if (CollectionUtils.isEmpty(request.userIds())) {
+            throw new InvalidBulkRequestException("userIds are required");
+        }
+        List<Long> userIds = request.userIds().stream().distinct().toList();
+        Set<Long> existing = taskBulkRepository.findExistingUserIds(userIds);
+        if (existing.size() != userIds.size()) {
+            List<Long> missing = userIds.stream().filter(id -> !existing.contains(id)).toList();
+            log.error("Bulk assign to unknown users. ids={}", missing);
+            throw new UserEntityNotFound("User not found. ids=" + missing);
+        }
+        return run("assign", request, chunk -> taskBulkRepository.assignPerformers(chunk, userIds));
+    }
+
+    private BulkTaskResultDto run(String operation, BulkTaskRequestDto request,
+                                  Function<List<Long>, Map<Long, BulkItemOutcome>> chunkWriter) {
+        long started = System.nanoTime();
+        List<Long> taskIds = resolveTaskIds(request);
+        List<BulkItemResultDto> items = new ArrayList<>(taskIds.size());
+        Map<BulkItemOutcome, Integer> totals = new EnumMap<>(BulkItemOutcome.class);
+        int chunks = 0;
+
+        for (int from = 0; from < taskIds.size(); from += bulkProperties.getChunkSize()) {
+            List<Long> chunk = taskIds.subList(from, Math.min(from + bulkProperties.getChunkSize(), taskIds.size()));
+            Map<Long, BulkItemOutcome> outcomes = writeChunk(operation, chunk, chunkWriter);
+            for (Long taskId : chunk) {
+                BulkItemOutcome outcome = outcomes == null
+                        ? BulkItemOutcome.FAILED
+                        : outcomes.getOrDefault(taskId, BulkItemOutcome.NOT_FOUND);
+                items.add(new BulkItemResultDto(taskId, outcome));
+                totals.merge(outcome, 1, Integer::sum);
+            }
+            chunks++;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        Timer.builder(METRIC).tag("operation", operation).register(meterRegistry).record(elapsed);
+        totals.forEach((outcome, count) -> meterRegistry
+                .counter(METRIC + ".items", "operation", operation, "outcome", outcome.name())
+                .increment(count));
+        log.info("Bulk {} finished. tasks={}, chunks={}, outcomes={}, elapsed={}ms",
+                operation, taskIds.size(), chunks, totals, elapsed.toMillis());
+
+        return BulkTaskResultDto.builder()
+                .operation(operation)
+                .requested(taskIds.size())
+                .updated(totals.getOrDefault(BulkItemOutcome.UPDATED, 0))
+                .unchanged(totals.getOrDefault(BulkItemOutcome.UNCHANGED, 0))
+                .notFound(totals.getOrDefault(BulkItemOutcome.NOT_FOUND, 0))
+                .failed(totals.getOrDefault(BulkItemOutcome.FAILED, 0))
+                .chunks(chunks)
+                .elapsedMs(elapsed.toMillis())
+                .tasksPerSecond(elapsed.isZero() ? 0 : taskIds.size() * 1_000_000_000.0 / elapsed.toNanos())
+                .items(items)
+                .build();
+    }
+
+    /**
+     * @return outcomes of the existing tasks of the chunk, or null if the chunk was rolled back
+     */
+    private Map<Long, BulkItemOutcome> writeChunk(String operation, List<Long> chunk,
+                                                  Function<List<Long>, Map<Long, BulkItemOutcome>> chunkWriter) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Map<Long, BulkItemOutcome> outcomes = chunkWriter.apply(chunk);
+                taskDtoCache.evictAllAfterCommit(outcomes.entrySet().stream()
+                        .filter(entry -> entry.getValue() == BulkItemOutcome.UPDATED)
+                        .map(Map.Entry::getKey)
+                        .toList());
+                return outcomes;
+            });
+        } catch (RuntimeException e) {
+            log.error("Bulk {} chunk rolled back. First task id: {}, size: {}", operation, chunk.get(0), chunk.size(), e);
+            return null;
+        }
+    }
+
+    private List<Long> resolveTaskIds(BulkTaskRequestDto request) {
+        boolean byIds = !CollectionUtils.isEmpty(request.taskIds());
+        if (byIds == (request.filter() != null)) {
+            throw new InvalidBulkRequestException("Exactly one of taskIds and filter is required");
+        }
+        List<Long> taskIds = byIds
+                ? request.taskIds().stream().distinct().toList()
+                : ourTaskRepository.findIds(TaskSpecifications.fromFilter(request.filter()),
+                bulkProperties.getMaxTasks() + 1);
+
+        if (taskIds.size() > bulkProperties.getMaxTasks()) {
+            throw new InvalidBulkRequestException("At most " + bulkProperties.getMaxTasks() + " tasks per request");
+        }
+        return taskIds;
+    }
+}
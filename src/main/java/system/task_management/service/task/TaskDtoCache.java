@@ -0,0 +1,232 @@
+package system.task_management.service.task;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import system.task_management.mapper.TaskDtoBinaryCodec;
+import system.task_management.model.dto.OurTaskResponseDto;
+import system.task_management.model.properties.TaskCacheProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of task details: an in-process Caffeine tier in front of a shared Redis tier.
+ * Writers evict after their transaction commits, the eviction is broadcast through {@link #CHANNEL}
+ * so every node drops its local copy. Redis is optional for reads: on failure the loader is used.
+ * <p>
+ * Each task has a generation counter next to its entry. Eviction increments it, and a loaded entry is
+ * written only if the generation is still the one seen before loading. So a reader that loaded the
+ * pre-commit state cannot put it back after the eviction.
+ */
+@Slf4j
+@Component
+public class TaskDtoCache implements MessageListener {
+    private static final String CHANNEL = "task:dto:events";
+    private static final String KEY_PREFIX = "task:dto:";
+    private static final byte[] NO_GENERATION = new byte[0];
+
+    /**
+     * KEYS: entry key, generation key. ARGV: generation seen before loading (empty if none), entry, ttl ms.
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: entry key and generation key of each task, in pairs. ARGV: generation ttl ms.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[i + 1])
+                redis.call('PEXPIRE', KEYS[i + 1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+    private static final String METRIC = "task.dto.cache";
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, OurTaskResponseDto> local;
+    private final Duration redisTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public TaskDtoCache(
+            @Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            TaskCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisTtl = Duration.ofSeconds(properties.getRedisTtl());
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "task.dto.local");
+
+        this.redisHits = Counter.builder(METRIC).tag("tier", "redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder(METRIC).tag("tier", "redis").tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC + ".hit.ratio", local, cache -> cache.stats().hitRate())
+                .tag("tier", "local")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".hit.ratio", this, TaskDtoCache::redisHitRatio)
+                .tag("tier", "redis")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public OurTaskResponseDto get(Long taskId, Supplier<OurTaskResponseDto> loader) {
+        return local.get(taskId, id -> loadShared(id, loader));
+    }
+
+    /**
+     * Evicts the task on every node once the current transaction commits. Outside a transaction
+     * the eviction is immediate.
+     */
+    public void evictAfterCommit(Long taskId) {
+        evictAllAfterCommit(List.of(taskId));
+    }
+
+    /**
+     * Bulk variant: one Redis DEL and one event for the whole collection.
+     */
+    public void evictAllAfterCommit(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll(taskIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll(taskIds);
+            }
+        });
+    }
+
+    public void evict(Long taskId) {
+        evictAll(List.of(taskId));
+    }
+
+    public void evictAll(Collection<Long> taskIds) {
+        local.invalidateAll(taskIds);
+        try {
+            List<String> keys = new ArrayList<>(taskIds.size() * 2);
+            for (Long taskId : taskIds) {
+                keys.add(entryKey(taskId));
+                keys.add(generationKey(taskId));
+            }
+            redisTemplate.execute(EVICT_SCRIPT, keys, millis(redisTtl));
+            String event = taskIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            redisTemplate.convertAndSend(CHANNEL, event.getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict tasks from shared cache. ids={}", taskIds, e);
+        }
+    }
+
+    /**
+     * The event is a comma-separated list of task ids.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            local.invalidateAll(Arrays.stream(body.split(",")).map(Long::valueOf).toList());
+        } catch (NumberFormatException e) {
+            log.warn("Malformed task cache event: {}", body);
+        }
+    }
+
+    /**
+     * The entry and its generation are read together; the generation must be read before the loader runs.
+     * If Redis cannot be read, the loaded value is not written back.
+     */
+    private OurTaskResponseDto loadShared(Long taskId, Supplier<OurTaskResponseDto> loader) {
+        String entryKey = entryKey(taskId);
+        String generationKey = generationKey(taskId);
+        byte[] generation = null;
+        try {
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(List.of(entryKey, generationKey));
+            OurTaskResponseDto cached = TaskDtoBinaryCodec.decode(values.get(0));
+            if (cached != null) {
+                redisHits.increment();
+                return cached;
+            }
+            generation = values.get(1) == null ? NO_GENERATION : values.get(1);
+        } catch (RuntimeException e) {
+            log.warn("Shared task cache read failed. id={}", taskId, e);
+        }
+        redisMisses.increment();
+
+        OurTaskResponseDto dto = loader.get();
+        if (generation == null) {
+            return dto;
+        }
+        try {
+            Long written = redisTemplate.execute(PUT_SCRIPT, List.of(entryKey, generationKey),
+                    generation, TaskDtoBinaryCodec.encode(dto), millis(redisTtl));
+            if (written == null || written == 0) {
+                log.debug("Task changed while loading, not cached. id={}", taskId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Shared task cache write failed. id={}", taskId, e);
+        }
+        return dto;
+    }
+
+    /**
+     * Hash-tagged, so the entry and its generation share a slot.
+     */
+    private static String entryKey(Long taskId) {
+        return KEY_PREFIX + "{" + taskId + "}";
+    }
+
+    private static String generationKey(Long taskId) {
+        return KEY_PREFIX + "{" + taskId + "}:gen";
+    }
+
+    private static byte[] millis(Duration duration) {
+        return String.valueOf(duration.toMillis()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private double redisHitRatio() {
+        double total = redisHits.count() + redisMisses.count();
+        return total == 0 ? 0 : redisHits.count() / total;
+    }
+}
@@ -0,0 +1,15 @@
+package system.task_management.service.task;
+
+import system.task_management.model.dto.TaskFilterDto;
+import system.task_management.model.enums.TaskFileFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    /**
+     * Writes every task matching the filter to {@code out}; page and size of the filter are ignored.
+     */
+    void exportTasks(TaskFilterDto filter, TaskFileFormat format, OutputStream out) throws IOException;
+}
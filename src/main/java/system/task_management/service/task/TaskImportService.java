@@ -0,0 +1,11 @@
+package system.task_management.service.task;
+
+import system.task_management.model.dto.TaskImportResultDto;
+import system.task_management.model.enums.TaskFileFormat;
+
+import java.io.InputStream;
+
+public interface TaskImportService {
+
+    TaskImportResultDto importTasks(InputStream body, TaskFileFormat format);
+}
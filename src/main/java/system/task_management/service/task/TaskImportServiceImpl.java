@@ -0,0 +1,310 @@
+package system.task_management.service.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import system.task_management.exception.InvalidBulkRequestException;
+import system.task_management.model.dto.OurTaskRequestDto;
+import system.task_management.model.dto.TaskImportErrorDto;
+import system.task_management.model.dto.TaskImportResultDto;
+import system.task_management.model.dto.UserAccountSummaryDto;
+import system.task_management.model.enums.TaskFileFormat;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.properties.BulkProperties;
+import system.task_management.repository.TaskBulkRepository;
+import system.task_management.repository.TaskBulkRepository.NewTaskRow;
+import system.task_management.service.user.UserDirectory;
+import system.task_management.util.CsvRowReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the body row by row and writes it in chunks of properties.bulk.import-chunk-size, each chunk
+ * in its own transaction. Only the current chunk and the first import-max-errors errors are held in memory,
+ * whatever the size of the body. Invalid rows, unknown authors and existing titles are reported per row;
+ * a failing chunk is rolled back alone and its rows are reported as failed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+    private static final String METRIC = "task.import";
+    private static final List<String> CSV_COLUMNS = List.of("authorEmail", "title", "description", "priority");
+
+    private final TaskBulkRepository taskBulkRepository;
+    private final UserDirectory userDirectory;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkProperties bulkProperties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public TaskImportResultDto importTasks(InputStream body, TaskFileFormat format) {
+        long started = System.nanoTime();
+        Progress progress = new Progress(bulkProperties.getImportMaxErrors());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RowSource source = format == TaskFileFormat.CSV ? new CsvSource(reader) : new NdjsonSource(reader);
+        List<ParsedRow> chunk = new ArrayList<>(bulkProperties.getImportChunkSize());
+
+        try {
+            for (ParsedRow row = source.next(); row != null; row = source.next()) {
+                progress.received++;
+                String error = row.error() != null ? row.error() : validate(row.task());
+                if (error != null) {
+                    progress.invalid++;
+                    progress.reject(row, error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == bulkProperties.getImportChunkSize()) {
+                    writeChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the import body", e);
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        Timer.builder(METRIC).tag("format", format.name()).register(meterRegistry).record(elapsed);
+        meterRegistry.counter(METRIC + ".rows", "outcome", "IMPORTED").increment(progress.imported);
+        meterRegistry.counter(METRIC + ".rows", "outcome", "DUPLICATE").increment(progress.duplicates);
+        meterRegistry.counter(METRIC + ".rows", "outcome", "INVALID").increment(progress.invalid);
+        meterRegistry.counter(METRIC + ".rows", "outcome", "FAILED").increment(progress.failed);
+        log.info("Task import finished. format={}, rows={}, imported={}, duplicates={}, invalid={}, failed={}, "
+                        + "chunks={}, elapsed={}ms", format, progress.received, progress.imported,
+                progress.duplicates, progress.invalid, progress.failed, progress.chunks, elapsed.toMillis());
+
+        return TaskImportResultDto.builder()
+                .format(format)
+                .received(progress.received)
+                .imported(progress.imported)
+                .duplicates(progress.duplicates)
+                .invalid(progress.invalid)
+                .failed(progress.failed)
+                .chunks(progress.chunks)
+                .elapsedMs(elapsed.toMillis())
+                .rowsPerSecond(elapsed.isZero() ? 0 : progress.received * 1_000_000_000.0 / elapsed.toNanos())
+                .errors(progress.errors)
+                .errorsTruncated(progress.errorsTruncated)
+                .build();
+    }
+
+    /**
+     * Resolves the authors of the chunk with one lookup and inserts the rows that have one.
+     */
+    private void writeChunk(List<ParsedRow> chunk, Progress progress) {
+        progress.chunks++;
+        Map<String, Long> authorIds = userDirectory.findAllByEmails(chunk.stream()
+                        .map(row -> row.task().authorEmail())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserAccountSummaryDto::email, UserAccountSummaryDto::id));
+
+        List<ParsedRow> accepted = new ArrayList<>(chunk.size());
+        List<NewTaskRow> newTasks = new ArrayList<>(chunk.size());
+        for (ParsedRow row : chunk) {
+            OurTaskRequestDto task = row.task();
+            Long authorId = authorIds.get(task.authorEmail());
+            if (authorId == null) {
+                progress.invalid++;
+                progress.reject(row, "author not found: " + task.authorEmail());
+                continue;
+            }
+            accepted.add(row);
+            newTasks.add(new NewTaskRow(task.title(), task.description(), task.priority(), authorId));
+        }
+        if (newTasks.isEmpty()) {
+            return;
+        }
+
+        Set<String> inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> taskBulkRepository.insertTasks(newTasks));
+        } catch (RuntimeException e) {
+            log.error("Task import chunk rolled back. First line: {}, size: {}", accepted.get(0).line(), accepted.size(), e);
+            progress.failed += accepted.size();
+            accepted.forEach(row -> progress.reject(row, "chunk rolled back"));
+            return;
+        }
+        for (ParsedRow row : accepted) {
+            if (inserted.remove(row.task().title())) {
+                progress.imported++;
+            } else {
+                progress.duplicates++;
+                progress.reject(row, "title already exists");
+            }
+        }
+    }
+
+    private String validate(OurTaskRequestDto task) {
+        if (task.authorEmail() == null || task.authorEmail().isBlank()) {
+            return "authorEmail: must not be blank";
+        }
+        Set<ConstraintViolation<OurTaskRequestDto>> violations = validator.validate(task);
+        return violations.isEmpty() ? null : violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static Function<List<String>, OurTaskRequestDto> csvMapper(List<String> header) {
+        if (header == null) {
+            throw new InvalidBulkRequestException("CSV header is missing");
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim(), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream().filter(column -> !positions.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidBulkRequestException("CSV header lacks columns " + missing);
+        }
+        return fields -> {
+            if (fields.size() != header.size()) {
+                throw new IllegalArgumentException(
+                        "expected " + header.size() + " columns, found " + fields.size());
+            }
+            String priority = fields.get(positions.get("priority")).trim();
+            return OurTaskRequestDto.builder()
+                    .authorEmail(fields.get(positions.get("authorEmail")).trim())
+                    .title(fields.get(positions.get("title")))
+                    .description(fields.get(positions.get("description")))
+                    .priority(priority.isEmpty() ? null : parsePriority(priority))
+                    .build();
+        };
+    }
+
+    private static TaskPriority parsePriority(String value) {
+        try {
+            return TaskPriority.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown priority: " + value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        /**
+         * @return the next row, or null at the end of the body
+         */
+        ParsedRow next() throws IOException;
+    }
+
+    private class NdjsonSource implements RowSource {
+        private final BufferedReader reader;
+        private long line;
+
+        NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String json;
+            do {
+                json = reader.readLine();
+                line++;
+            } while (json != null && json.isBlank());
+            if (json == null) {
+                return null;
+            }
+            try {
+                return new ParsedRow(line, objectMapper.readValue(json, OurTaskRequestDto.class), null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRow(line, null, "malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * The header row maps column names to positions; unknown columns are ignored.
+     */
+    private static class CsvSource implements RowSource {
+        private final CsvRowReader csv;
+        private Function<List<String>, OurTaskRequestDto> mapper;
+
+        CsvSource(BufferedReader reader) {
+            this.csv = new CsvRowReader(reader);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            List<String> fields;
+            try {
+                if (mapper == null) {
+                    mapper = csvMapper(csv.next());
+                }
+                fields = csv.next();
+            } catch (IllegalArgumentException e) {
+                if (mapper == null) {
+                    throw new InvalidBulkRequestException(e.getMessage());
+                }
+                return new ParsedRow(csv.getRecordLine(), null, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+            try {
+                return new ParsedRow(csv.getRecordLine(), mapper.apply(fields), null);
+            } catch (IllegalArgumentException e) {
+                return new ParsedRow(csv.getRecordLine(), null, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A row of the body: either a task or the reason it could not be read.
+     */
+    private record ParsedRow(long line, OurTaskRequestDto task, String error) {
+    }
+
+    private static class Progress {
+        private final int maxErrors;
+        private final List<TaskImportErrorDto> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+        private long received;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+        private long failed;
+        private int chunks;
+
+        Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void reject(ParsedRow row, String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(new TaskImportErrorDto(row.line(), row.task() == null ? null : row.task().title(), message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
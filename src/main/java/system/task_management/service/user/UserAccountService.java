@@ -1,6 +1,7 @@
 package system.task_management.service.user;
 
 import system.task_management.model.dto.UserAccountResponseDto;
+import system.task_management.model.enums.UserAccountStatus;
 
 import java.util.List;
 
@@ -11,4 +12,8 @@ public interface UserAccountService {
     UserAccountResponseDto getUserAccountById(long id);
 
     List<UserAccountResponseDto> getAllUserAccountsByIds(List<Long> ids);
-}
\ No newline at end of file
+
+    UserAccountResponseDto setUserAccountStatus(long id, UserAccountStatus status);
+
+    void revokeAllSessions(long id);
+}
@@ -3,43 +3,106 @@ package system.task_management.service.user;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import system.task_management.exception.UserEntityNotFound;
 import system.task_management.mapper.CustomUserAccountMapper;
+import system.task_management.model.UserAccount;
+import system.task_management.model.dto.OurTaskShortDto;
 import system.task_management.model.dto.UserAccountResponseDto;
+import system.task_management.model.dto.UserAccountSummaryDto;
+import system.task_management.model.enums.UserAccountStatus;
 import system.task_management.repository.UserAccountRepository;
+import system.task_management.security.repository.RefreshTokenStore;
+import system.task_management.service.redis.TokenEpochService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserAccountServiceImpl implements UserAccountService {
     private final UserAccountRepository userAccountRepository;
+    private final TokenEpochService tokenEpochService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserDirectory userDirectory;
 
     @Override
     public UserAccountResponseDto getUserAccountByEmail(String email) {
-        return CustomUserAccountMapper.toResponseDto(userAccountRepository.findByEmail(email)
+        return toResponseDtos(List.of(userDirectory.findByEmail(email)
                 .orElseThrow(() -> {
                     log.error("User not found with email {}", email);
                     return new UserEntityNotFound("User not found");
-                }));
+                }))).get(0);
     }
 
     @Override
     public UserAccountResponseDto getUserAccountById(long id) {
-        return CustomUserAccountMapper.toResponseDto(userAccountRepository.findById(id)
+        return toResponseDtos(List.of(userDirectory.findById(id)
                 .orElseThrow(() -> {
                     log.error("User not found with. Id {}", id);
                     return new UserEntityNotFound("User not found");
-                }));
+                }))).get(0);
     }
 
     @Override
     public List<UserAccountResponseDto> getAllUserAccountsByIds(List<Long> ids) {
-        return userAccountRepository.findAllById(ids).stream()
-                .filter(Objects::nonNull)
-                .map(CustomUserAccountMapper::toResponseDto)
+        return toResponseDtos(userDirectory.findAllByIds(ids));
+    }
+
+    @Transactional
+    @Override
+    public UserAccountResponseDto setUserAccountStatus(long id, UserAccountStatus status) {
+        UserAccount userAccount = userAccountRepository.findProfileById(id)
+                .orElseThrow(() -> {
+                    log.error("User not found with. Id {}", id);
+                    return new UserEntityNotFound("User not found");
+                });
+        userAccount.setUserAccountStatus(status);
+        userDirectory.evictAfterCommit(userAccount.getId(), userAccount.getEmail());
+
+        if (status == UserAccountStatus.BLOCKED) {
+            revokeAllSessions(userAccount.getEmail());
+        }
+        log.info("User account status changed. Email: {}, status: {}", userAccount.getEmail(), status);
+
+        return CustomUserAccountMapper.toResponseDto(userAccount);
+    }
+
+    @Override
+    public void revokeAllSessions(long id) {
+        revokeAllSessions(findUserAccount(id).getEmail());
+    }
+
+    /**
+     * User fields come from the directory, their tasks from one projection query for the whole list.
+     */
+    private List<UserAccountResponseDto> toResponseDtos(List<UserAccountSummaryDto> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<OurTaskShortDto>> tasksByUser = new HashMap<>();
+        userAccountRepository.findTaskRowsByUserIdIn(users.stream().map(UserAccountSummaryDto::id).toList())
+                .forEach(row -> tasksByUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>())
+                        .add(new OurTaskShortDto(row.getTaskId(), row.getTitle())));
+
+        return users.stream()
+                .map(user -> CustomUserAccountMapper.toResponseDto(user, tasksByUser.getOrDefault(user.id(), List.of())))
                 .toList();
     }
+
+    private void revokeAllSessions(String email) {
+        tokenEpochService.revokeAll(email);
+        refreshTokenStore.revokeAll(email);
+    }
+
+    private UserAccount findUserAccount(long id) {
+        return userAccountRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("User not found with. Id {}", id);
+                    return new UserEntityNotFound("User not found");
+                });
+    }
 }
@@ -0,0 +1,159 @@
+package system.task_management.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import system.task_management.model.dto.UserAccountSummaryDto;
+import system.task_management.model.properties.UserDirectoryProperties;
+import system.task_management.repository.UserAccountRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lightweight user lookups by email or id for the service layer and the auth filter. A miss is one
+ * projection select, never a UserAccount load. Absent users are cached too, so registration, status
+ * and role changes must call {@link #evictAfterCommit}; evictions reach other nodes through {@link #CHANNEL}.
+ */
+@Slf4j
+@Component
+public class UserDirectory implements MessageListener {
+    private static final String CHANNEL = "user:directory:events";
+
+    private final UserAccountRepository userAccountRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, Optional<UserAccountSummaryDto>> byEmail;
+    private final Cache<Long, Optional<UserAccountSummaryDto>> byId;
+
+    public UserDirectory(
+            UserAccountRepository userAccountRepository,
+            @Qualifier("customRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            UserDirectoryProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.userAccountRepository = userAccountRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.byEmail = newCache(properties);
+        this.byId = newCache(properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "user.directory.email");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "user.directory.id");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<UserAccountSummaryDto> findByEmail(String email) {
+        return byEmail.get(email, userAccountRepository::findSummaryByEmail);
+    }
+
+    public Optional<UserAccountSummaryDto> findById(Long id) {
+        return byId.get(id, userAccountRepository::findSummaryById);
+    }
+
+    /**
+     * Found users in the order of {@code ids}; the missing ones are loaded with a single select.
+     */
+    public List<UserAccountSummaryDto> findAllByIds(Collection<Long> ids) {
+        return byId.getAll(ids, missing -> {
+                    Map<Long, Optional<UserAccountSummaryDto>> loaded = new HashMap<>();
+                    missing.forEach(id -> loaded.put(id, Optional.empty()));
+                    userAccountRepository.findSummariesByIdIn(List.copyOf(missing))
+                            .forEach(user -> loaded.put(user.id(), Optional.of(user)));
+                    return loaded;
+                })
+                .values().stream()
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Found users in the order of {@code emails}; the missing ones are loaded with a single select.
+     */
+    public List<UserAccountSummaryDto> findAllByEmails(Collection<String> emails) {
+        return byEmail.getAll(emails, missing -> {
+                    Map<String, Optional<UserAccountSummaryDto>> loaded = new HashMap<>();
+                    missing.forEach(email -> loaded.put(email, Optional.empty()));
+                    userAccountRepository.findSummariesByEmailIn(List.copyOf(missing))
+                            .forEach(user -> loaded.put(user.email(), Optional.of(user)));
+                    return loaded;
+                })
+                .values().stream()
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Evicts the user on every node once the current transaction commits, so a concurrent lookup
+     * cannot cache the pre-commit row again. Outside a transaction the eviction is immediate.
+     */
+    public void evictAfterCommit(Long id, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id, email);
+            }
+        });
+    }
+
+    public void evict(Long id, String email) {
+        evictLocal(id, email);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, id + ":" + email);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast user directory eviction. Email: {}", email, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("Malformed user directory event: {}", body);
+            return;
+        }
+        String id = body.substring(0, separator);
+        evictLocal("null".equals(id) ? null : Long.valueOf(id), body.substring(separator + 1));
+    }
+
+    private void evictLocal(Long id, String email) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        byEmail.invalidate(email);
+    }
+
+    private static <K> Cache<K, Optional<UserAccountSummaryDto>> newCache(UserDirectoryProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtl()))
+                .recordStats()
+                .build();
+    }
+}
@@ -1,29 +1,118 @@
 package system.task_management.specification;
 
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 import system.task_management.model.OurTask;
+import system.task_management.model.UserAccount;
+import system.task_management.model.dto.TaskFilterDto;
+import system.task_management.model.enums.TaskPriority;
 import system.task_management.model.enums.TaskStatus;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * Filters never fetch-join a collection: to-one paths are plain joins and performer filters are
+ * EXISTS subqueries, so a task is returned exactly once and the page size stays correct.
+ */
 public class TaskSpecifications {
 
+    public static Specification<OurTask> fromFilter(TaskFilterDto filter) {
+        Specification<OurTask> spec = Specification.where(null);
+
+        if (StringUtils.hasText(filter.email())) {
+            spec = spec.and(hasEmail(filter.email()));
+        }
+        if (!filter.effectiveStatuses().isEmpty()) {
+            spec = spec.and(hasStatusIn(filter.effectiveStatuses()));
+        }
+        if (!CollectionUtils.isEmpty(filter.priorities())) {
+            spec = spec.and(hasPriorityIn(filter.priorities()));
+        }
+        if (!CollectionUtils.isEmpty(filter.performerIds())) {
+            spec = spec.and(hasAnyPerformer(filter.performerIds()));
+        }
+        if (filter.startDate() != null || filter.endDate() != null) {
+            spec = spec.and(inDateRange("createdAt", filter.startDate(), filter.endDate()));
+        }
+        if (filter.updatedFrom() != null || filter.updatedTo() != null) {
+            spec = spec.and(inDateRange("updatedAt", filter.updatedFrom(), filter.updatedTo()));
+        }
+        if (StringUtils.hasText(filter.title())) {
+            spec = spec.and(hasTitleLike(filter.title()));
+        }
+        return spec;
+    }
+
+    /**
+     * Author email, matched through the unique index on user_account.email.
+     */
     public static Specification<OurTask> hasEmail(String email) {
-        return (root, query, cb) -> cb.equal(root.get("email"), email);
+        return (root, query, cb) -> cb.equal(root.join("author").get("email"), email);
     }
 
     public static Specification<OurTask> hasStatus(TaskStatus taskStatus) {
         return (root, query, cb) -> cb.equal(root.get("taskStatus"), taskStatus);
     }
 
+    public static Specification<OurTask> hasStatusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("taskStatus").in(statuses);
+    }
+
+    public static Specification<OurTask> hasPriorityIn(Collection<TaskPriority> priorities) {
+        return (root, query, cb) -> root.get("taskPriority").in(priorities);
+    }
+
+    public static Specification<OurTask> hasAnyPerformer(Collection<Long> performerIds) {
+        return (root, query, cb) -> {
+            Subquery<Integer> performers = query.subquery(Integer.class);
+            Root<OurTask> task = performers.correlate(root);
+            Join<OurTask, UserAccount> performer = task.join("performers");
+            performers.select(cb.literal(1)).where(performer.get("id").in(performerIds));
+            return cb.exists(performers);
+        };
+    }
+
     public static Specification<OurTask> inDateRange(LocalDate startDate, LocalDate endDate) {
-        return (root, query, cb) ->
-                cb.between(root.get("createdAt"), startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+        return inDateRange("createdAt", startDate, endDate);
     }
 
+    /**
+     * Whole days in UTC, [from 00:00, to + 1 day 00:00); either bound may be null.
+     */
+    public static Specification<OurTask> inDateRange(String attribute, LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Instant>get(attribute), from.atStartOfDay(ZoneOffset.UTC).toInstant()));
+            }
+            if (to != null) {
+                Instant end = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+                predicates.add(cb.lessThan(root.<Instant>get(attribute), end));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Case-insensitive substring match, rendered as ILIKE so the trigram index on title applies.
+     */
     public static Specification<OurTask> hasTitleLike(String title) {
-        return (root, query, cb) -> cb.equal(root.get("title"), title);
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).ilike(
+                root.<String>get("title"), "%" + escapeLike(title) + "%", '\\');
     }
 
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
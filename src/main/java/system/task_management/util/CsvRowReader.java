@@ -0,0 +1,84 @@
+package system.task_management.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time: comma separated, fields optionally quoted, {@code ""} inside quotes
+ * is a quote and a quoted field may span lines. Only the current record is held in memory.
+ */
+public class CsvRowReader {
+
+    private final BufferedReader reader;
+    private long line;
+    private long recordLine;
+
+    public CsvRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return fields of the next non-blank record, or null at the end of the input
+     * @throws IllegalArgumentException if the input ends inside a quoted field
+     */
+    public List<String> next() throws IOException {
+        String current = reader.readLine();
+        line++;
+        while (current != null && current.isBlank()) {
+            current = reader.readLine();
+            line++;
+        }
+        if (current == null) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == current.length()) {
+                if (!quoted) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                current = reader.readLine();
+                line++;
+                if (current == null) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting at line " + recordLine);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = current.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < current.length() && current.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    /**
+     * Line number (1-based) where the last returned record started.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+}
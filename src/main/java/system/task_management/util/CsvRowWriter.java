@@ -0,0 +1,38 @@
+package system.task_management.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes RFC 4180 records, the counterpart of {@link CsvRowReader}. A field is quoted only if it contains
+ * a comma, a quote or a line break; null is written as an empty field.
+ */
+public class CsvRowWriter {
+
+    private final Writer writer;
+
+    public CsvRowWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void write(List<?> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                writer.write(escape(field.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,42 @@
+package system.task_management.util;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import system.task_management.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Position after the last returned row of a list ordered by {@code (createdAt DESC, id DESC)}.
+ * Clients get it as an opaque Base64url token and send it back unchanged for the next page.
+ */
+public record KeysetCursor(Instant createdAt, long id) {
+
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor: " + token);
+            }
+            return new KeysetCursor(Instant.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+    }
+
+    public KeysetScrollPosition toScrollPosition() {
+        return ScrollPosition.forward(Map.of("createdAt", createdAt, "id", id));
+    }
+}
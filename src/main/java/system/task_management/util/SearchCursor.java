@@ -0,0 +1,33 @@
+package system.task_management.util;
+
+import system.task_management.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last hit of a search ordered by {@code (rank DESC, id DESC)}. The rank is kept
+ * as the exact double Postgres returned, so the next page continues without gaps or repeats.
+ */
+public record SearchCursor(double rank, long id) {
+
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor: " + token);
+            }
+            return new SearchCursor(Double.parseDouble(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+    }
+}
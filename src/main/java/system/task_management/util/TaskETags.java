@@ -0,0 +1,39 @@
+package system.task_management.util;
+
+/**
+ * Strong ETags derived from {@code OurTask.version}. Every representation that depends on the task
+ * gets its own prefix, so a tag of one resource never matches another.
+ */
+public final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    public static String task(Long taskId, Long version) {
+        return tag("task", taskId, version);
+    }
+
+    public static String comments(Long taskId, Long version) {
+        return tag("comments", taskId, version);
+    }
+
+    /**
+     * Version named by an If-Match value, or -1 (matches no row) if it is not a current-format tag of this task.
+     */
+    public static long parseTaskVersion(Long taskId, String ifMatch) {
+        String prefix = "\"task-" + taskId + "-v";
+        String value = ifMatch == null ? "" : ifMatch.trim();
+        if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String tag(String resource, Long taskId, Long version) {
+        return "\"" + resource + "-" + taskId + "-v" + (version == null ? 0 : version) + "\"";
+    }
+}
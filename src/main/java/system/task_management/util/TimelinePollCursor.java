@@ -0,0 +1,49 @@
+package system.task_management.util;
+
+import system.task_management.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Position of a timeline poll: the newest comment returned so far, {@code (createdAt, id)}, and the ids already
+ * returned within the overlap window behind it. {@code createdAt} is taken before commit, so a comment can
+ * become visible after a newer one; a poll therefore re-reads the window and skips {@code seenIds}.
+ */
+public record TimelinePollCursor(Instant createdAt, long id, Set<Long> seenIds) {
+
+    private static final String SEPARATOR = "_";
+    private static final String ID_SEPARATOR = ",";
+
+    public TimelinePollCursor {
+        seenIds = Set.copyOf(seenIds);
+    }
+
+    public String encode() {
+        String seen = new TreeSet<>(seenIds).stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+        String raw = createdAt + SEPARATOR + id + SEPARATOR + seen;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelinePollCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Malformed cursor: " + token);
+            }
+            Set<Long> seenIds = parts[2].isEmpty() ? Set.of() : Arrays.stream(parts[2].split(ID_SEPARATOR))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet());
+            return new TimelinePollCursor(Instant.parse(parts[0]), Long.parseLong(parts[1]), seenIds);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+    }
+}
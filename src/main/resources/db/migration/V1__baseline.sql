@@ -0,0 +1,51 @@
+-- Schema as previously generated by hibernate.ddl-auto=update. IF NOT EXISTS lets databases created
+-- that way adopt the migrations (baseline-version 0), a fresh database gets the same tables.
+
+CREATE TABLE IF NOT EXISTS user_account
+(
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      varchar(255) NOT NULL UNIQUE,
+    password   varchar(255) NOT NULL,
+    first_name varchar(255) NOT NULL,
+    last_name  varchar(255) NOT NULL,
+    role       varchar(255) NOT NULL CHECK (role IN ('ADMIN', 'USER')),
+    status     varchar(255) NOT NULL CHECK (status IN ('ACTIVE', 'BLOCKED')),
+    created_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone
+);
+
+CREATE TABLE IF NOT EXISTS our_task
+(
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       varchar(255) NOT NULL UNIQUE,
+    description varchar(255) NOT NULL,
+    status      varchar(255) NOT NULL CHECK (status IN ('ACTIVE', 'PENDING', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    priotity    varchar(255) NOT NULL CHECK (priotity IN ('LOW', 'MEDIUM', 'HIGH')),
+    author_id   bigint REFERENCES user_account (id),
+    created_at  timestamp(6) with time zone NOT NULL,
+    updated_at  timestamp(6) with time zone
+);
+
+CREATE TABLE IF NOT EXISTS task_comment
+(
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text       text                        NOT NULL,
+    task_id    bigint REFERENCES our_task (id),
+    author_id  bigint REFERENCES user_account (id),
+    created_at timestamp(6) with time zone NOT NULL,
+    modified   timestamp(6) with time zone
+);
+
+CREATE TABLE IF NOT EXISTS user_task
+(
+    user_id bigint NOT NULL REFERENCES user_account (id),
+    task_id bigint NOT NULL REFERENCES our_task (id)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_token
+(
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token      varchar(255)                NOT NULL,
+    email      varchar(255)                NOT NULL UNIQUE,
+    expires_at timestamp(6) with time zone NOT NULL
+);
@@ -0,0 +1,34 @@
+-- Indexes of the list, filter, comment and search read paths. Names match the ones earlier versions
+-- created at runtime, so existing databases skip what they already have.
+
+-- Task lists: default order, updatedAt order, author filter.
+CREATE INDEX IF NOT EXISTS idx_our_task_created_at_id ON our_task (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_our_task_updated_at_id ON our_task (updated_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_our_task_author_created_at ON our_task (author_id, created_at DESC, id DESC);
+
+-- Performer filter and performer listing in both directions of the join table.
+CREATE INDEX IF NOT EXISTS idx_user_task_user_task ON user_task (user_id, task_id);
+CREATE INDEX IF NOT EXISTS idx_user_task_task_user ON user_task (task_id, user_id);
+
+-- Comment timeline of a task; makes the plain task_id index redundant.
+CREATE INDEX IF NOT EXISTS idx_task_comment_task_created_at ON task_comment (task_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_task_comment_task_id;
+
+-- Full-text and fuzzy search.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE our_task
+    ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+            || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+ALTER TABLE task_comment
+    ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        to_tsvector('simple', coalesce(text, ''))
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_our_task_search_vector ON our_task USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_task_comment_search_vector ON task_comment USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_our_task_title_trgm ON our_task USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_our_task_description_trgm ON our_task USING gin (description gin_trgm_ops);
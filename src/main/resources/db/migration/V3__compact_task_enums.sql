@@ -0,0 +1,35 @@
+-- TaskStatus and TaskPriority as smallint codes (see the enums) instead of varchar(255), and the
+-- priotity column name fixed. Indexes on the rewritten columns are created after the conversion.
+
+ALTER TABLE our_task DROP CONSTRAINT IF EXISTS our_task_status_check;
+ALTER TABLE our_task DROP CONSTRAINT IF EXISTS our_task_priotity_check;
+DROP INDEX IF EXISTS idx_our_task_status_created_at;
+DROP INDEX IF EXISTS idx_our_task_status_priority_created_at;
+
+ALTER TABLE our_task RENAME COLUMN priotity TO priority;
+
+ALTER TABLE our_task
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'ACTIVE' THEN 1
+        WHEN 'PENDING' THEN 2
+        WHEN 'COMPLETED' THEN 3
+        WHEN 'FAILED' THEN 4
+        WHEN 'CANCELLED' THEN 5
+        END,
+    ALTER COLUMN priority TYPE smallint USING CASE priority
+        WHEN 'LOW' THEN 1
+        WHEN 'MEDIUM' THEN 2
+        WHEN 'HIGH' THEN 3
+        END;
+
+ALTER TABLE our_task
+    ADD CONSTRAINT our_task_status_check CHECK (status BETWEEN 1 AND 5),
+    ADD CONSTRAINT our_task_priority_check CHECK (priority BETWEEN 1 AND 3);
+
+CREATE INDEX idx_our_task_status_created_at ON our_task (status, created_at DESC, id DESC);
+CREATE INDEX idx_our_task_status_priority_created_at ON our_task (status, priority, created_at DESC);
+
+-- Open tasks (ACTIVE = 1, PENDING = 2) are the small, hot part of the table: the work queues read
+-- them by age and by priority without touching finished tasks.
+CREATE INDEX idx_our_task_open_created_at ON our_task (created_at DESC, id DESC) WHERE status IN (1, 2);
+CREATE INDEX idx_our_task_open_priority ON our_task (priority DESC, created_at DESC) WHERE status IN (1, 2);
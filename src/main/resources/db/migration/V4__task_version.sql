@@ -0,0 +1,4 @@
+-- Optimistic version of a task. Bumped by every change to the task, its comments and performers,
+-- and served as the ETag of task and comment reads.
+
+ALTER TABLE our_task ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
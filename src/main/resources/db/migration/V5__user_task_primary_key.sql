@@ -0,0 +1,12 @@
+-- One row per assignment: duplicates are removed and (user_id, task_id) becomes the primary key, so bulk
+-- assignment can insert with ON CONFLICT DO NOTHING. The key replaces idx_user_task_user_task.
+
+DELETE FROM user_task a
+    USING user_task b
+WHERE a.ctid > b.ctid
+  AND a.user_id = b.user_id
+  AND a.task_id = b.task_id;
+
+ALTER TABLE user_task ADD CONSTRAINT pk_user_task PRIMARY KEY (user_id, task_id);
+
+DROP INDEX IF EXISTS idx_user_task_user_task;
@@ -0,0 +1,25 @@
+-- Identity columns are replaced with sequences incremented by 50, matching the allocationSize of the
+-- entities: Hibernate takes one value per 50 inserts (pooled optimizer) and can batch them. The value
+-- returned by nextval is the upper bound of a block, so each sequence restarts at max(id) + 50 and the
+-- first block starts right after the existing rows. The column default stays on the sequence for plain
+-- SQL inserts; such a row takes the upper bound of its own block, so it never collides with Hibernate.
+
+ALTER TABLE user_account ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS user_account_seq INCREMENT BY 50 OWNED BY user_account.id;
+SELECT setval('user_account_seq', (SELECT coalesce(max(id), 0) + 50 FROM user_account), false);
+ALTER TABLE user_account ALTER COLUMN id SET DEFAULT nextval('user_account_seq');
+
+ALTER TABLE our_task ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS our_task_seq INCREMENT BY 50 OWNED BY our_task.id;
+SELECT setval('our_task_seq', (SELECT coalesce(max(id), 0) + 50 FROM our_task), false);
+ALTER TABLE our_task ALTER COLUMN id SET DEFAULT nextval('our_task_seq');
+
+ALTER TABLE task_comment ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS task_comment_seq INCREMENT BY 50 OWNED BY task_comment.id;
+SELECT setval('task_comment_seq', (SELECT coalesce(max(id), 0) + 50 FROM task_comment), false);
+ALTER TABLE task_comment ALTER COLUMN id SET DEFAULT nextval('task_comment_seq');
+
+ALTER TABLE refresh_token ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS refresh_token_seq INCREMENT BY 50 OWNED BY refresh_token.id;
+SELECT setval('refresh_token_seq', (SELECT coalesce(max(id), 0) + 50 FROM refresh_token), false);
+ALTER TABLE refresh_token ALTER COLUMN id SET DEFAULT nextval('refresh_token_seq');
@@ -0,0 +1,37 @@
+package system.task_management;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Postgres for database tests, started with the test context and stopped when it closes. Use it with
+ * {@code @AutoConfigureTestDatabase(replace = NONE)}. Server settings can be passed as
+ * {@code test.postgres.settings=shared_buffers=512MB,work_mem=16MB}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    private static final String IMAGE = "postgres:16-alpine";
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer(Environment environment) {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(IMAGE);
+        String[] settings = environment.getProperty("test.postgres.settings", String[].class, new String[0]);
+        if (settings.length > 0) {
+            List<String> command = new ArrayList<>(List.of("postgres"));
+            for (String setting : settings) {
+                command.add("-c");
+                command.add(setting);
+            }
+            container.withCommand(command.toArray(String[]::new));
+        }
+        return container;
+    }
+}
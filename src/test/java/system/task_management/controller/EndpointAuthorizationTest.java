@@ -0,0 +1,171 @@
+package system.task_management.controller;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.configuration.MethodSecurityConfig;
+import system.task_management.security.jwt.JwtAuthFilter;
+import system.task_management.security.jwt.JwtUtil;
+import system.task_management.security.model.Permission;
+import system.task_management.security.model.RoleUser;
+import system.task_management.security.model.UserAccountDetails;
+import system.task_management.service.task.OurTaskService;
+import system.task_management.service.task.TaskBulkService;
+import system.task_management.service.task.TaskExportService;
+import system.task_management.service.task.TaskImportService;
+import system.task_management.service.user.UserAccountService;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every endpoint guarded by method security, with a principal that must be refused and one that must pass.
+ * Requests are valid, so a refusal can only come from the authorization check.
+ */
+@WebMvcTest({TaskController.class, UserAccountController.class})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(MethodSecurityConfig.class)
+class EndpointAuthorizationTest {
+    private static final String TASK_BODY = """
+            {"authorEmail":"author@mail.com","title":"title","description":"description","priority":"MEDIUM"}
+            """;
+
+    private static final UserAccountDetails ADMIN = principal(RoleUser.ADMIN, RoleUser.ADMIN.getPermissionMask());
+    private static final UserAccountDetails USER = principal(RoleUser.USER, RoleUser.USER.getPermissionMask());
+    private static final UserAccountDetails READER = principal(RoleUser.USER, Permission.READ.getMask());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private JwtAuthFilter jwtAuthFilter;
+
+    @MockitoBean
+    private OurTaskService ourTaskService;
+
+    @MockitoBean
+    private TaskBulkService taskBulkService;
+
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @MockitoBean
+    private TaskExportService taskExportService;
+
+    @MockitoBean
+    private UserAccountService userAccountService;
+
+    static Stream<Arguments> endpoints() {
+        return Stream.of(
+                // hasRole('ADMIN')
+                endpoint("POST /tasks", USER, post("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON)
+                        .content(TASK_BODY)),
+                endpoint("PUT /tasks/update", USER, put("/api/v1/tasks/update")
+                        .contentType(MediaType.APPLICATION_JSON).content(TASK_BODY)),
+                endpoint("GET /tasks/filters", USER, get("/api/v1/tasks/filters")
+                        .contentType(MediaType.APPLICATION_JSON).content("{}")),
+                endpoint("GET /tasks/filters/scroll", USER, get("/api/v1/tasks/filters/scroll")
+                        .contentType(MediaType.APPLICATION_JSON).content("{}")),
+                endpoint("POST /tasks/{id}/assign", USER, post("/api/v1/tasks/1/assign").param("userId", "2")),
+                endpoint("DELETE /tasks/{id}/remove/performer", USER, delete("/api/v1/tasks/1/remove/performer")
+                        .param("userId", "2")),
+                endpoint("GET /tasks/{id}/performers", USER, get("/api/v1/tasks/1/performers")),
+                endpoint("PUT /tasks/{id}/status", USER, put("/api/v1/tasks/1/status").param("status", "ACTIVE")),
+                endpoint("PUT /tasks/{id}/priority", USER, put("/api/v1/tasks/1/priority")
+                        .param("priority", "HIGH")),
+                endpoint("PATCH /tasks/{id}/status", USER, patch("/api/v1/tasks/1/status")
+                        .param("status", "ACTIVE").header(HttpHeaders.IF_MATCH, "\"task-1-v1\"")),
+                endpoint("PATCH /tasks/{id}/priority", USER, patch("/api/v1/tasks/1/priority")
+                        .param("priority", "HIGH").header(HttpHeaders.IF_MATCH, "\"task-1-v1\"")),
+                endpoint("POST /tasks/bulk/status", USER, post("/api/v1/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"taskIds\":[1],\"status\":\"ACTIVE\"}")),
+                endpoint("POST /tasks/bulk/priority", USER, post("/api/v1/tasks/bulk/priority")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"taskIds\":[1],\"priority\":\"HIGH\"}")),
+                endpoint("POST /tasks/bulk/assign", USER, post("/api/v1/tasks/bulk/assign")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"taskIds\":[1],\"userIds\":[2]}")),
+                endpoint("POST /tasks/import (ndjson)", USER, post("/api/v1/tasks/import")
+                        .contentType(MediaType.APPLICATION_NDJSON).content("")),
+                endpoint("POST /tasks/import (csv)", USER, post("/api/v1/tasks/import")
+                        .contentType("text/csv").content("")),
+                endpoint("GET /tasks/export", USER, get("/api/v1/tasks/export")
+                        .contentType(MediaType.APPLICATION_JSON).content("{}")),
+                endpoint("PUT /users/id/{id}/status", USER, put("/api/v1/users/id/1/status")
+                        .param("status", "BLOCKED")),
+                endpoint("DELETE /users/id/{id}/sessions", USER, delete("/api/v1/users/id/1/sessions")),
+                // READ
+                endpoint("GET /tasks/search", USER, get("/api/v1/tasks/search").param("q", "report")),
+                endpoint("GET /tasks/{id}", USER, get("/api/v1/tasks/1")),
+                endpoint("GET /users/email/{email}", USER, get("/api/v1/users/email/user@mail.com")),
+                endpoint("GET /users/id/{id}", USER, get("/api/v1/users/id/1")),
+                endpoint("GET /users", USER, get("/api/v1/users").param("ids", "1", "2")),
+                // COMMENT
+                endpoint("PUT /tasks/{id}/comments/add", READER, put("/api/v1/tasks/1/comments/add")
+                        .param("comment", "text")),
+                endpoint("POST /tasks/{id}/comments", READER, post("/api/v1/tasks/1/comments")
+                        .param("comment", "text")),
+                endpoint("GET /tasks/{id}/comments", READER, get("/api/v1/tasks/1/comments")),
+                endpoint("GET /tasks/{id}/comments/timeline", READER, get("/api/v1/tasks/1/comments/timeline")),
+                endpoint("DELETE /tasks/{id}/comments/remove", READER, delete("/api/v1/tasks/1/comments/remove")
+                        .param("commentId", "3"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0} refused")
+    @MethodSource("endpoints")
+    void endpoint_refusesPrincipalWithoutPermission(
+            String name, UserAccountDetails refused, MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request.with(authentication(authenticated(refused))))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("ACCESS_DENIED"));
+
+        verifyNoInteractions(ourTaskService, taskBulkService, taskImportService, taskExportService,
+                userAccountService);
+    }
+
+    @ParameterizedTest(name = "{0} allowed")
+    @MethodSource("endpoints")
+    void endpoint_allowsAdmin(
+            String name, UserAccountDetails refused, MockHttpServletRequestBuilder request) throws Exception {
+        int status = mockMvc.perform(request.with(authentication(authenticated(ADMIN))))
+                .andReturn().getResponse().getStatus();
+
+        assertNotEquals(403, status);
+    }
+
+    private static Arguments endpoint(String name, UserAccountDetails refused, MockHttpServletRequestBuilder request) {
+        return Arguments.of(name, refused, request);
+    }
+
+    private static UserAccountDetails principal(RoleUser role, int permissionMask) {
+        return UserAccountDetails.fromClaims(
+                role.name().toLowerCase() + "@mail.com", role, permissionMask, UserAccountStatus.ACTIVE);
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticated(UserAccountDetails principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
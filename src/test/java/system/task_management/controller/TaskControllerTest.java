@@ -6,6 +6,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -16,11 +17,16 @@ import system.task_management.model.enums.TaskStatus;
 import system.task_management.security.jwt.JwtAuthFilter;
 import system.task_management.security.jwt.JwtUtil;
 import system.task_management.service.task.OurTaskService;
+import system.task_management.service.task.TaskBulkService;
+import system.task_management.service.task.TaskExportService;
+import system.task_management.service.task.TaskImportService;
 
 import java.time.Instant;
 import java.util.List;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +47,15 @@ public class TaskControllerTest {
     @MockitoBean
     private OurTaskService ourTaskServiceImpl;
 
+    @MockitoBean
+    private TaskBulkService taskBulkService;
+
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @MockitoBean
+    private TaskExportService taskExportService;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -70,4 +85,30 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value(requestDto.title()));
     }
+
+    @Test
+    public void getTaskById_returnsETagOfTaskVersion() throws Exception {
+        OurTaskResponseDto responseDto = OurTaskResponseDto.builder()
+                .id(1L)
+                .title("title")
+                .version(3L)
+                .build();
+
+        Mockito.when(ourTaskServiceImpl.getTaskById(1L)).thenReturn(responseDto);
+
+        mockMvc.perform(get("/api/v1/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"task-1-v3\""))
+                .andExpect(jsonPath("$.version").value(3));
+        Mockito.verify(ourTaskServiceImpl, Mockito.never()).getTaskVersion(1L);
+    }
+
+    @Test
+    public void getTaskById_notModifiedDoesNotLoadTask() throws Exception {
+        Mockito.when(ourTaskServiceImpl.getTaskVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/v1/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"task-1-v3\""))
+                .andExpect(status().isNotModified());
+        Mockito.verify(ourTaskServiceImpl, Mockito.never()).getTaskById(1L);
+    }
 }
@@ -0,0 +1,45 @@
+package system.task_management.mapper;
+
+import org.junit.jupiter.api.Test;
+import system.task_management.model.dto.CommentResponseDto;
+import system.task_management.model.dto.OurTaskResponseDto;
+import system.task_management.model.dto.UserAccountShortDto;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TaskDtoBinaryCodecTest {
+
+    @Test
+    void encodeDecode_roundTrip() {
+        OurTaskResponseDto dto = OurTaskResponseDto.builder()
+                .id(5L)
+                .emailAuthor("author@mail.com")
+                .title("Задача")
+                .description(null)
+                .taskStatus(TaskStatus.ACTIVE)
+                .taskPriority(TaskPriority.HIGH)
+                .performers(List.of(new UserAccountShortDto(2L, "user@mail.com", "Ivan", null)))
+                .comments(List.of(new CommentResponseDto(9L, "Done", 2L, Instant.parse("2025-03-01T10:15:30.123456Z"))))
+                .createdAt(Instant.parse("2025-02-01T08:00:00Z"))
+                .updatedAt(null)
+                .version(3L)
+                .build();
+
+        assertEquals(dto, TaskDtoBinaryCodec.decode(TaskDtoBinaryCodec.encode(dto)));
+    }
+
+    @Test
+    void decode_otherFormatVersionIsMiss() {
+        byte[] data = TaskDtoBinaryCodec.encode(OurTaskResponseDto.builder().id(1L).build());
+        data[0] = TaskDtoBinaryCodec.FORMAT_VERSION + 1;
+
+        assertNull(TaskDtoBinaryCodec.decode(data));
+        assertNull(TaskDtoBinaryCodec.decode(null));
+    }
+}
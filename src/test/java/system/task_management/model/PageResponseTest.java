@@ -0,0 +1,75 @@
+package system.task_management.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageResponseTest {
+
+    @Test
+    void ofSlice_omitsTotals() {
+        PageResponse<String> response = PageResponse.ofSlice(new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true));
+
+        assertNull(response.totalElements());
+        assertNull(response.totalPages());
+        assertTrue(response.hasNext());
+        assertEquals(PageResponse.TotalType.OMITTED, response.totalType());
+    }
+
+    @Test
+    void ofEstimate_neverReportsLessThanTheRowsAlreadySeen() {
+        PageResponse<String> response = PageResponse.ofEstimate(
+                new SliceImpl<>(List.of("e", "f"), PageRequest.of(2, 2), true), 3);
+
+        assertEquals(7L, response.totalElements());
+        assertEquals(4, response.totalPages());
+        assertEquals(PageResponse.TotalType.ESTIMATED, response.totalType());
+    }
+
+    @Test
+    void ofEstimate_isExactOnTheLastSlice() {
+        PageResponse<String> response = PageResponse.ofEstimate(
+                new SliceImpl<>(List.of("e"), PageRequest.of(2, 2), false), 1_000);
+
+        assertEquals(5L, response.totalElements());
+        assertEquals(3, response.totalPages());
+        assertFalse(response.hasNext());
+        assertEquals(PageResponse.TotalType.EXACT, response.totalType());
+    }
+
+    @Test
+    void ofEstimate_staysEstimatedOnEmptySlicePastTheEnd() {
+        PageResponse<String> response = PageResponse.ofEstimate(
+                new SliceImpl<>(List.of(), PageRequest.of(100, 10), false), 10);
+
+        assertEquals(10L, response.totalElements());
+        assertEquals(1, response.totalPages());
+        assertFalse(response.hasNext());
+        assertEquals(PageResponse.TotalType.ESTIMATED, response.totalType());
+    }
+
+    @Test
+    void ofEstimate_capsEstimateByOffsetOnEmptySlicePastTheEnd() {
+        PageResponse<String> response = PageResponse.ofEstimate(
+                new SliceImpl<>(List.of(), PageRequest.of(3, 10), false), 5_000);
+
+        assertEquals(30L, response.totalElements());
+        assertEquals(PageResponse.TotalType.ESTIMATED, response.totalType());
+    }
+
+    @Test
+    void ofEstimate_isExactZeroOnEmptyFirstSlice() {
+        PageResponse<String> response = PageResponse.ofEstimate(
+                new SliceImpl<>(List.of(), PageRequest.of(0, 10), false), 40);
+
+        assertEquals(0L, response.totalElements());
+        assertEquals(PageResponse.TotalType.EXACT, response.totalType());
+    }
+}
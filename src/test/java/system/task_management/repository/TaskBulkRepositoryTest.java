@@ -0,0 +1,78 @@
+package system.task_management.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import system.task_management.TestcontainersConfiguration;
+import system.task_management.model.enums.TaskPriority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Imported tasks take ids from pooled blocks of our_task_seq, one nextval per 50 rows.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({TestcontainersConfiguration.class, TaskBulkRepository.class})
+class TaskBulkRepositoryTest {
+
+    @Autowired
+    private TaskBulkRepository taskBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertTasks_usesOneSequenceBlockPer50Rows() {
+        long authorId = insertAuthor();
+        String prefix = UUID.randomUUID().toString();
+        List<TaskBulkRepository.NewTaskRow> rows = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            rows.add(new TaskBulkRepository.NewTaskRow(prefix + " task " + i, "description", TaskPriority.MEDIUM,
+                    authorId));
+        }
+        long before = jdbcTemplate.queryForObject("SELECT nextval('our_task_seq')", Long.class);
+
+        Set<String> inserted = taskBulkRepository.insertTasks(rows);
+
+        long after = jdbcTemplate.queryForObject("SELECT nextval('our_task_seq')", Long.class);
+        assertEquals(120, inserted.size());
+        assertEquals(4 * 50, after - before, "three blocks for the chunk plus the probe");
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM our_task WHERE title LIKE ? ORDER BY id", Long.class, prefix + "%");
+        assertEquals(120, ids.size());
+        assertEquals(before + 1, ids.get(0));
+        assertEquals(ids.get(0) + 119, ids.get(119));
+    }
+
+    @Test
+    void insertTasks_skipsExistingTitles() {
+        long authorId = insertAuthor();
+        String title = "duplicate " + UUID.randomUUID();
+        TaskBulkRepository.NewTaskRow row = new TaskBulkRepository.NewTaskRow(title, "description",
+                TaskPriority.LOW, authorId);
+        taskBulkRepository.insertTasks(List.of(row));
+
+        Set<String> inserted = taskBulkRepository.insertTasks(List.of(row,
+                new TaskBulkRepository.NewTaskRow(title + " new", "description", TaskPriority.LOW, authorId)));
+
+        assertEquals(Set.of(title + " new"), inserted);
+    }
+
+    private long insertAuthor() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO user_account (email, password, first_name, last_name, role, status, created_at, updated_at)
+                VALUES (?, 'password', 'First', 'Last', 'USER', 'ACTIVE', now(), now())
+                RETURNING id""", Long.class, "author-" + UUID.randomUUID() + "@mail.com");
+    }
+}
@@ -0,0 +1,139 @@
+package system.task_management.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import system.task_management.TestcontainersConfiguration;
+import system.task_management.model.OurTask;
+import system.task_management.model.TaskComment;
+import system.task_management.model.UserAccount;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.model.RoleUser;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Task and comment creation through JPA, one statement per row (what IDENTITY ids force) against JDBC batches
+ * on pooled sequence ids. Not part of the regular build: {@code ./gradlew benchmarkTest}.
+ * The volume can be changed with -Dbenchmark.insert.tasks.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TestcontainersConfiguration.class)
+class TaskInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskInsertBenchmarkTest.class);
+
+    private static final int TASKS = Integer.getInteger("benchmark.insert.tasks", 5_000);
+    private static final int COMMENTS_PER_TASK = 4;
+    private static final int FLUSH_EVERY = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void batchedInserts_needFarFewerStatementsThanRowByRow() {
+        Long authorId = new TransactionTemplate(transactionManager).execute(status -> {
+            UserAccount author = UserAccount.builder()
+                    .email("bench-author@mail.com")
+                    .password("password")
+                    .firstName("First")
+                    .lastName("Last")
+                    .role(RoleUser.USER)
+                    .userAccountStatus(UserAccountStatus.ACTIVE)
+                    .build();
+            entityManager.persist(author);
+            return author.getId();
+        });
+
+        // warm-up, so that the first measured run does not pay for class loading and statement preparation
+        insert("warmup", authorId, 1, TASKS / 10);
+        Run rowByRow = insert("row", authorId, 1, TASKS);
+        Run batched = insert("batch", authorId, null, TASKS);
+
+        log.info("insert row-by-row: rows={} statements={} {} rows/s",
+                rowByRow.rows(), rowByRow.statements(), Math.round(rowByRow.rowsPerSecond()));
+        log.info("insert batched:    rows={} statements={} {} rows/s",
+                batched.rows(), batched.statements(), Math.round(batched.rowsPerSecond()));
+
+        assertTrue(batched.statements() * 10 < rowByRow.statements(),
+                "batched run prepared " + batched.statements() + " statements for " + batched.rows() + " rows");
+    }
+
+    /**
+     * Persists {@code tasks} tasks with their comments in one transaction, flushing and clearing the context
+     * every {@link #FLUSH_EVERY} tasks. {@code batchSize} overrides hibernate.jdbc.batch_size for the session,
+     * {@code null} keeps the configured one.
+     */
+    private Run insert(String label, Long authorId, Integer batchSize, int tasks) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (batchSize != null) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            }
+            for (int i = 0; i < tasks; i++) {
+                UserAccount author = entityManager.getReference(UserAccount.class, authorId);
+                OurTask task = OurTask.builder()
+                        .title(label + " task " + i)
+                        .description("benchmark task " + i)
+                        .taskStatus(TaskStatus.PENDING)
+                        .taskPriority(TaskPriority.MEDIUM)
+                        .author(author)
+                        .comments(new ArrayList<>())
+                        .build();
+                for (int c = 0; c < COMMENTS_PER_TASK; c++) {
+                    task.getComments().add(TaskComment.builder()
+                            .ourTask(task)
+                            .author(author)
+                            .text("comment " + c)
+                            .build());
+                }
+                entityManager.persist(task);
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        long nanos = System.nanoTime() - start;
+        long rows = (long) tasks * (1 + COMMENTS_PER_TASK);
+        return new Run(rows, statistics.getPrepareStatementCount(),
+                rows * (double) TimeUnit.SECONDS.toNanos(1) / nanos);
+    }
+
+    private record Run(long rows, long statements, double rowsPerSecond) {
+    }
+}
@@ -0,0 +1,140 @@
+package system.task_management.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import system.task_management.TestcontainersConfiguration;
+import system.task_management.model.dto.TaskSearchHitDto;
+import system.task_management.util.SearchCursor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Search latency at production-like volume. Not part of the regular build: {@code ./gradlew benchmarkTest}.
+ * The volume can be raised with -Dbenchmark.tasks and -Dbenchmark.comments, but not below the scale the
+ * p95 limit is stated for. Requires Docker: without it the run fails instead of being skipped.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "test.postgres.settings=shared_buffers=512MB,work_mem=16MB")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestcontainersConfiguration.class, TaskSearchRepository.class})
+class TaskSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchBenchmarkTest.class);
+
+    private static final int MIN_TASKS = 200_000;
+    private static final int MIN_COMMENTS = 1_000_000;
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", MIN_TASKS);
+    private static final int COMMENTS = Integer.getInteger("benchmark.comments", 2_000_000);
+    private static final int VOCABULARY = 20_000;
+    private static final int WARMUP = 50;
+    private static final int MEASURED = 500;
+    private static final long P95_LIMIT_MS = 50;
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskSearchRepository taskSearchRepository;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION bench_text(words int) RETURNS text LANGUAGE sql VOLATILE AS $$
+                    SELECT string_agg('term' || floor(random() * %d)::int, ' ') FROM generate_series(1, words)
+                $$""".formatted(VOCABULARY));
+        jdbcTemplate.execute("""
+                INSERT INTO user_account (email, password, first_name, last_name, role, status, created_at, updated_at)
+                SELECT 'user' || g || '@mail.com', 'password', 'First', 'Last', 'USER', 'ACTIVE', now(), now()
+                FROM generate_series(1, 1000) g""");
+        jdbcTemplate.update("""
+                INSERT INTO our_task (title, description, status, priority, author_id, created_at, updated_at)
+                SELECT 'task ' || g || ' ' || bench_text(4), bench_text(20), 1, 2,
+                       (SELECT min(id) FROM user_account), now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g""", TASKS);
+        jdbcTemplate.update("""
+                INSERT INTO task_comment (text, task_id, author_id, created_at, modified)
+                SELECT bench_text(12), t.min_id + (g % ?), a.min_id + (g % 1000), now(), now()
+                FROM generate_series(1, ?) g,
+                     (SELECT min(id) AS min_id FROM our_task) t,
+                     (SELECT min(id) AS min_id FROM user_account) a""", TASKS, COMMENTS);
+        jdbcTemplate.execute("ANALYZE");
+
+        long tasks = jdbcTemplate.queryForObject("SELECT count(*) FROM our_task", Long.class);
+        long comments = jdbcTemplate.queryForObject("SELECT count(*) FROM task_comment", Long.class);
+        assertTrue(tasks >= MIN_TASKS, "seeded " + tasks + " tasks, the limit is stated for " + MIN_TASKS);
+        assertTrue(comments >= MIN_COMMENTS, "seeded " + comments + " comments, the limit is stated for " + MIN_COMMENTS);
+        seeded = true;
+    }
+
+    @Test
+    void search_p95StaysBelowLimit() {
+        for (int i = 0; i < WARMUP; i++) {
+            taskSearchRepository.search(randomQuery(), null, 21);
+        }
+
+        long[] nanos = new long[MEASURED];
+        int nonEmpty = 0;
+        for (int i = 0; i < MEASURED; i++) {
+            String query = randomQuery();
+            long start = System.nanoTime();
+            List<TaskSearchHitDto> hits = taskSearchRepository.search(query, null, 21).hits();
+            if (hits.size() == 21) {
+                TaskSearchHitDto last = hits.get(19);
+                hits = taskSearchRepository.search(query, new SearchCursor(last.rank(), last.id()), 21).hits();
+            }
+            nanos[i] = System.nanoTime() - start;
+            if (!hits.isEmpty()) {
+                nonEmpty++;
+            }
+        }
+
+        Arrays.sort(nanos);
+        long p50 = TimeUnit.NANOSECONDS.toMillis(nanos[MEASURED / 2]);
+        long p95Nanos = nanos[(int) (MEASURED * 0.95)];
+        double p95 = p95Nanos / 1_000_000.0;
+        log.info("search: tasks={} comments={} p50={}ms p95={}ms max={}ms",
+                TASKS, COMMENTS, p50, "%.1f".formatted(p95), TimeUnit.NANOSECONDS.toMillis(nanos[MEASURED - 1]));
+
+        assertFalse(nonEmpty == 0, "benchmark queries should hit something");
+        assertTrue(p95Nanos <= TimeUnit.MILLISECONDS.toNanos(P95_LIMIT_MS),
+                "p95 %.1fms exceeds %dms".formatted(p95, P95_LIMIT_MS));
+    }
+
+    /**
+     * Either one to three vocabulary terms (comment and description hits) or a task title, which also goes
+     * through the trigram path.
+     */
+    private static String randomQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder query = new StringBuilder();
+        int terms = 1 + random.nextInt(3);
+        for (int i = 0; i < terms; i++) {
+            query.append(i == 0 ? "" : " ").append("term").append(random.nextInt(VOCABULARY));
+        }
+        return random.nextBoolean() ? query.toString() : "task " + random.nextInt(TASKS);
+    }
+}
@@ -0,0 +1,114 @@
+package system.task_management.security.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.model.Permission;
+import system.task_management.security.model.RoleUser;
+import system.task_management.security.model.UserAccountDetails;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PermissionAuthorizationManagerTest {
+
+    private final PermissionAuthorizationManager manager = new PermissionAuthorizationManager();
+
+    @Test
+    void grantsWhenPrincipalHasRequiredPermission() throws Exception {
+        assertTrue(granted(principal(Permission.READ), "read"));
+    }
+
+    @Test
+    void deniesWhenPrincipalLacksRequiredPermission() throws Exception {
+        assertFalse(granted(principal(Permission.COMMENT), "read"));
+    }
+
+    @Test
+    void requiresEveryListedPermission() throws Exception {
+        assertFalse(granted(principal(Permission.READ), "readAndDelete"));
+        assertTrue(granted(principal(Permission.READ, Permission.DELETE), "readAndDelete"));
+    }
+
+    @Test
+    void grantsAdminEveryPermission() throws Exception {
+        Authentication admin = authenticated(UserAccountDetails.fromClaims(
+                "admin@mail.com", RoleUser.ADMIN, RoleUser.ADMIN.getPermissionMask(), UserAccountStatus.ACTIVE));
+
+        assertTrue(granted(admin, "read"));
+        assertTrue(granted(admin, "readAndDelete"));
+    }
+
+    @Test
+    void deniesUnauthenticatedAndMissingAuthentication() throws Exception {
+        TestingAuthenticationToken unauthenticated = new TestingAuthenticationToken("user", null, "permission:read");
+        unauthenticated.setAuthenticated(false);
+
+        assertFalse(manager.check(() -> null, invocation("read")).isGranted());
+        assertFalse(granted(unauthenticated, "read"));
+    }
+
+    @Test
+    void readsAuthorityNamesOfOtherPrincipals() throws Exception {
+        TestingAuthenticationToken reader = new TestingAuthenticationToken("user", null, "permission:read");
+
+        assertTrue(granted(reader, "read"));
+        assertFalse(granted(reader, "readAndDelete"));
+    }
+
+    @Test
+    void grantsMethodWithoutAnnotation() throws Exception {
+        assertTrue(granted(principal(), "open"));
+    }
+
+    @Test
+    void usesMaskNotAuthorityNamesOfUserAccountDetails() throws Exception {
+        UserAccountDetails principal = UserAccountDetails.fromClaims("user@mail.com", RoleUser.USER,
+                Permission.READ.getMask(), UserAccountStatus.ACTIVE);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                principal, null, RoleUser.USER.getAuthorities(0));
+
+        assertTrue(granted(authentication, "read"));
+    }
+
+    private boolean granted(Authentication authentication, String methodName) throws Exception {
+        return manager.check(() -> authentication, invocation(methodName)).isGranted();
+    }
+
+    private static MethodInvocation invocation(String methodName) throws NoSuchMethodException {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(SecuredMethods.class.getDeclaredMethod(methodName));
+        return invocation;
+    }
+
+    private static Authentication principal(Permission... permissions) {
+        return authenticated(UserAccountDetails.fromClaims(
+                "user@mail.com", RoleUser.USER, Permission.toMask(List.of(permissions)), UserAccountStatus.ACTIVE));
+    }
+
+    private static Authentication authenticated(UserAccountDetails principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @SuppressWarnings("unused")
+    private static class SecuredMethods {
+
+        @RequiresPermission(Permission.READ)
+        void read() {
+        }
+
+        @RequiresPermission({Permission.READ, Permission.DELETE})
+        void readAndDelete() {
+        }
+
+        void open() {
+        }
+    }
+}
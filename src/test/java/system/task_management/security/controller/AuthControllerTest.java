@@ -89,7 +89,7 @@ class AuthControllerTest {
                 .refreshToken("refresh-token")
                 .build();
 
-        Mockito.when(userAccountDetailsService.login(any(LoginRequestDto.class)))
+        Mockito.when(userAccountDetailsService.login(any(LoginRequestDto.class), any()))
                 .thenReturn(responseDto);
 
         mockMvc.perform(post("/api/v1/security/login")
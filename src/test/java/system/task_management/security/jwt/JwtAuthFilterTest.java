@@ -0,0 +1,161 @@
+package system.task_management.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import system.task_management.model.dto.UserAccountSummaryDto;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.security.model.Permission;
+import system.task_management.security.model.RoleUser;
+import system.task_management.security.model.UserAccountDetails;
+import system.task_management.service.redis.RedisService;
+import system.task_management.service.redis.TokenEpochService;
+import system.task_management.service.user.UserDirectory;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stateless mode: the principal is built from verified claims, only the account status is looked up.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+    private static final String TOKEN = "jwt";
+    private static final String EMAIL = "user@mail.com";
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    private final JwtProperties jwtProperties = new JwtProperties();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private JwtAuthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthFilter(jwtUtil, jwtProperties, redisService, tokenEpochService, userDirectory);
+        when(jwtUtil.extractTokenFromRequest(request)).thenReturn(TOKEN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsPrincipal_takesRoleAndPermissionsFromToken() throws Exception {
+        int mask = Permission.toMask(EnumSet.of(Permission.READ, Permission.COMMENT));
+        Claims claims = claims("ROLE_USER", mask);
+        givenValidToken(claims);
+        givenStatus(UserAccountStatus.ACTIVE);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserAccountDetails principal = assertInstanceOf(UserAccountDetails.class, authentication.getPrincipal());
+        assertEquals(EMAIL, principal.getUsername());
+        assertNull(principal.getPassword());
+        assertEquals(mask, principal.getPermissionMask());
+        assertEquals(Set.of("ROLE_USER", "permission:read", "permission:comment"), authorities(authentication));
+    }
+
+    @Test
+    void claimsPrincipal_fallsBackToRoleMaskWithoutPermsClaim() throws Exception {
+        Claims claims = claims("ROLE_ADMIN", null);
+        givenValidToken(claims);
+        givenStatus(UserAccountStatus.ACTIVE);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        UserAccountDetails principal = (UserAccountDetails) SecurityContextHolder.getContext()
+                .getAuthentication().getPrincipal();
+        assertEquals(RoleUser.ADMIN.getPermissionMask(), principal.getPermissionMask());
+    }
+
+    @Test
+    void claimsPrincipal_isNotSetForBlockedAccount() throws Exception {
+        givenValidToken(claims("ROLE_USER", RoleUser.USER.getPermissionMask()));
+        givenStatus(UserAccountStatus.BLOCKED);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void claimsPrincipal_isNotSetForUnknownAccount() throws Exception {
+        givenValidToken(claims("ROLE_USER", RoleUser.USER.getPermissionMask()));
+        when(userDirectory.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void blacklistedToken_isNotAuthenticated() throws Exception {
+        Claims claims = claims("ROLE_USER", RoleUser.USER.getPermissionMask());
+        when(jwtUtil.extractVerifiedClaims(TOKEN)).thenReturn(Optional.of(claims));
+        when(redisService.isTokenBlacklisted(claims, TOKEN)).thenReturn(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private void givenValidToken(Claims claims) {
+        when(jwtUtil.extractVerifiedClaims(TOKEN)).thenReturn(Optional.of(claims));
+        when(redisService.isTokenBlacklisted(claims, TOKEN)).thenReturn(false);
+        when(tokenEpochService.isRevoked(claims)).thenReturn(false);
+    }
+
+    private void givenStatus(UserAccountStatus status) {
+        when(userDirectory.findByEmail(EMAIL)).thenReturn(Optional.of(
+                new UserAccountSummaryDto(1L, EMAIL, "First", "Last", RoleUser.USER, status, null, null)));
+    }
+
+    private static Claims claims(String role, Integer permissionMask) {
+        var builder = Jwts.claims()
+                .subject(EMAIL)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .add("role", role);
+        if (permissionMask != null) {
+            builder.add(JwtUtil.PERMISSIONS_CLAIM, permissionMask);
+        }
+        return builder.build();
+    }
+
+    private static Set<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,102 @@
+package system.task_management.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtClaimsCacheTest {
+    private static final String TOKEN = "header.payload.signature";
+    private static final String KEY_ID = "key-1";
+
+    @Mock
+    private JwtKeyRing jwtKeyRing;
+
+    private JwtClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JwtClaimsCache(new JwtProperties(), jwtKeyRing, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_missesUnknownToken() {
+        assertNull(cache.get(TOKEN));
+    }
+
+    @Test
+    void get_returnsCachedClaimsWhileKeyVerifies() {
+        Claims claims = claimsExpiringIn(60_000);
+        when(jwtKeyRing.canVerify(KEY_ID)).thenReturn(true);
+
+        cache.put(TOKEN, KEY_ID, claims);
+
+        assertSame(claims, cache.get(TOKEN));
+        assertSame(claims, cache.get(TOKEN));
+    }
+
+    @Test
+    void get_missesOtherToken() {
+        cache.put(TOKEN, KEY_ID, claimsExpiringIn(60_000));
+
+        assertNull(cache.get(TOKEN + "x"));
+    }
+
+    @Test
+    void get_missesAfterTokenExpiration() throws InterruptedException {
+        cache.put(TOKEN, KEY_ID, claimsExpiringIn(50));
+
+        Thread.sleep(150);
+
+        assertNull(cache.get(TOKEN));
+    }
+
+    @Test
+    void get_missesAfterKeyVerifyUntilEvenIfTokenIsAlive() throws InterruptedException {
+        when(jwtKeyRing.getVerifyUntil(KEY_ID)).thenReturn(Instant.now().plusMillis(50));
+
+        cache.put(TOKEN, KEY_ID, claimsExpiringIn(60_000));
+        Thread.sleep(150);
+
+        assertNull(cache.get(TOKEN));
+    }
+
+    @Test
+    void get_evictsEntryOfRetiredKey() {
+        when(jwtKeyRing.canVerify(KEY_ID)).thenReturn(true, false);
+        cache.put(TOKEN, KEY_ID, claimsExpiringIn(60_000));
+        cache.get(TOKEN);
+
+        assertNull(cache.get(TOKEN));
+        assertNull(cache.get(TOKEN));
+        verify(jwtKeyRing, times(2)).canVerify(KEY_ID);
+    }
+
+    @Test
+    void put_skipsClaimsWithoutExpiration() {
+        cache.put(TOKEN, KEY_ID, Jwts.claims().subject("user@mail.com").build());
+
+        assertNull(cache.get(TOKEN));
+    }
+
+    private static Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .subject("user@mail.com")
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .build();
+    }
+}
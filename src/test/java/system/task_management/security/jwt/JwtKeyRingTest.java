@@ -0,0 +1,197 @@
+package system.task_management.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import system.task_management.security.controller.JwksController;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtKeyRingTest {
+
+    private final KeyPair ecKeyPair = ecKeyPair();
+
+    @Test
+    void parser_selectsKeyByKid() {
+        JwtProperties properties = properties("ec-1", ecKey("ec-1", true), hmacKey("old", null));
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+        String signedWithActive = token("ec-1", keyRing.getActiveSigningKey());
+        String signedWithOld = token("old", keyRing.findVerificationKey("old"));
+
+        assertEquals("user@mail.com", subject(keyRing, signedWithActive));
+        assertEquals("user@mail.com", subject(keyRing, signedWithOld));
+    }
+
+    @Test
+    void parser_rejectsTokenSignedWithKeyOtherThanItsKid() {
+        JwtKeyRing keyRing = new JwtKeyRing(properties("active", hmacKey("active", null), hmacKey("old", null)));
+        String forged = token("active", keyRing.findVerificationKey("old"));
+
+        assertThrows(JwtException.class, () -> subject(keyRing, forged));
+    }
+
+    @Test
+    void parser_verifiesTokenWithoutKidWithLegacySecret() {
+        JwtProperties properties = properties(JwtKeyRing.LEGACY_KEY_ID);
+        properties.setSecret(secret());
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+
+        assertEquals("user@mail.com", subject(keyRing, token(null, keyRing.getActiveSigningKey())));
+    }
+
+    @Test
+    void findVerificationKey_rejectsUnknownKid() {
+        JwtKeyRing keyRing = new JwtKeyRing(properties("active", hmacKey("active", null)));
+
+        assertThrows(JwtException.class, () -> keyRing.findVerificationKey("missing"));
+        assertFalse(keyRing.canVerify("missing"));
+    }
+
+    @Test
+    void retiredKey_stopsVerifying() {
+        JwtProperties properties = properties("active",
+                hmacKey("active", null), hmacKey("retired", Instant.now().minusSeconds(1)));
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+
+        assertThrows(JwtException.class, () -> keyRing.findVerificationKey("retired"));
+        assertFalse(keyRing.canVerify("retired"));
+        assertTrue(keyRing.canVerify("active"));
+    }
+
+    @Test
+    void keyWithFutureVerifyUntil_keepsVerifying() {
+        Instant verifyUntil = Instant.now().plusSeconds(60);
+        JwtKeyRing keyRing = new JwtKeyRing(properties("active", hmacKey("active", null),
+                hmacKey("leaving", verifyUntil)));
+
+        assertTrue(keyRing.canVerify("leaving"));
+        assertEquals(verifyUntil, keyRing.getVerifyUntil("leaving"));
+    }
+
+    @Test
+    void hmacKeyWithoutSecret_failsWithConfigurationError() {
+        JwtProperties.SigningKey key = hmacKey("broken", null);
+        key.setSecret(null);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new JwtKeyRing(properties("broken", key)));
+        assertTrue(exception.getMessage().contains("broken"));
+    }
+
+    @Test
+    void hmacKeyWithShortSecret_failsWithConfigurationError() {
+        JwtProperties.SigningKey key = hmacKey("short", null);
+        key.setSecret(Base64.getEncoder().encodeToString(new byte[8]));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new JwtKeyRing(properties("short", key)));
+        assertTrue(exception.getMessage().contains("short"));
+    }
+
+    @Test
+    void ecKeyWithoutPublicKey_failsWithConfigurationError() {
+        JwtProperties.SigningKey key = ecKey("ec-1", true);
+        key.setPublicKey(null);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new JwtKeyRing(properties("ec-1", key)));
+        assertTrue(exception.getMessage().contains("ec-1"));
+    }
+
+    @Test
+    void duplicateKeyId_failsWithConfigurationError() {
+        assertThrows(IllegalStateException.class,
+                () -> new JwtKeyRing(properties("same", hmacKey("same", null), hmacKey("same", null))));
+    }
+
+    @Test
+    void activeKeyWithoutPrivatePart_failsWithConfigurationError() {
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(properties("ec-1", ecKey("ec-1", false))));
+    }
+
+    @Test
+    void jwks_publishesOnlyAsymmetricPublicKeys() {
+        JwtKeyRing keyRing = new JwtKeyRing(properties("ec-1", ecKey("ec-1", true), hmacKey("hmac", null)));
+
+        List<?> keys = (List<?>) new JwksController(keyRing).getJwks().get("keys");
+
+        assertEquals(1, keys.size());
+        Map<?, ?> jwk = (Map<?, ?>) keys.get(0);
+        assertEquals("ec-1", jwk.get("kid"));
+        assertEquals("EC", jwk.get("kty"));
+        assertFalse(jwk.containsKey("d"));
+    }
+
+    private static String subject(JwtKeyRing keyRing, String token) {
+        Claims claims = keyRing.getParser().parseSignedClaims(token).getPayload();
+        return claims.getSubject();
+    }
+
+    private static String token(String keyId, Key signingKey) {
+        var builder = Jwts.builder()
+                .subject("user@mail.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000));
+        if (keyId != null) {
+            builder.header().keyId(keyId).and();
+        }
+        return builder.signWith(signingKey).compact();
+    }
+
+    private static JwtProperties properties(String activeKeyId, JwtProperties.SigningKey... keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+
+    private static JwtProperties.SigningKey hmacKey(String id, Instant verifyUntil) {
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setId(id);
+        key.setAlgorithm(JwtProperties.KeyAlgorithm.HMAC);
+        key.setSecret(secret());
+        key.setVerifyUntil(verifyUntil);
+        return key;
+    }
+
+    private JwtProperties.SigningKey ecKey(String id, boolean withPrivateKey) {
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setId(id);
+        key.setAlgorithm(JwtProperties.KeyAlgorithm.EC);
+        key.setPublicKey(Base64.getEncoder().encodeToString(ecKeyPair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(ecKeyPair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+
+    private static String secret() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static KeyPair ecKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(256);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
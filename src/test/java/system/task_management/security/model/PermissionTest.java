@@ -0,0 +1,87 @@
+package system.task_management.security.model;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PermissionTest {
+
+    @Test
+    void mask_isOneDistinctBitPerPermission() {
+        int all = 0;
+        for (Permission permission : Permission.values()) {
+            assertEquals(1, Integer.bitCount(permission.getMask()));
+            assertEquals(0, all & permission.getMask());
+            all |= permission.getMask();
+        }
+    }
+
+    @Test
+    void mask_isTiedToDeclarationOrder() {
+        // Tokens in circulation carry these values: reordering the enum would change their meaning.
+        assertEquals(1, Permission.WRITE.getMask());
+        assertEquals(2, Permission.READ.getMask());
+        assertEquals(4, Permission.UPDATE.getMask());
+        assertEquals(8, Permission.COMMENT.getMask());
+        assertEquals(16, Permission.STATUS.getMask());
+        assertEquals(32, Permission.DELETE.getMask());
+    }
+
+    @Test
+    void fromMask_reversesToMaskForEverySubset() {
+        for (int mask = 0; mask < 1 << Permission.values().length; mask++) {
+            EnumSet<Permission> permissions = Permission.fromMask(mask);
+            assertEquals(mask, Permission.toMask(permissions));
+        }
+    }
+
+    @Test
+    void fromAuthority_resolvesPermissionNames() {
+        assertSame(Permission.READ, Permission.fromAuthority("permission:read"));
+        assertNull(Permission.fromAuthority("ROLE_ADMIN"));
+    }
+
+    @Test
+    void roleMask_matchesRolePermissions() {
+        for (RoleUser role : RoleUser.values()) {
+            assertEquals(role.getPermissions(), Permission.fromMask(role.getPermissionMask()));
+        }
+        assertEquals(Permission.toMask(EnumSet.of(Permission.COMMENT, Permission.STATUS)),
+                RoleUser.USER.getPermissionMask());
+    }
+
+    @Test
+    void roleAuthorities_containPermissionsOfMaskAndRole() {
+        int mask = Permission.toMask(EnumSet.of(Permission.READ, Permission.DELETE));
+
+        assertEquals(Set.of("permission:read", "permission:delete", "ROLE_USER"),
+                names(RoleUser.USER.getAuthorities(mask)));
+        assertEquals(Set.of("ROLE_ADMIN"), names(RoleUser.ADMIN.getAuthorities(0)));
+    }
+
+    @Test
+    void roleAuthorities_areSharedAndIgnoreUnknownBits() {
+        int mask = RoleUser.ADMIN.getPermissionMask();
+
+        assertSame(RoleUser.ADMIN.getAuthorities(), RoleUser.ADMIN.getAuthorities(mask));
+        assertSame(RoleUser.ADMIN.getAuthorities(mask), RoleUser.ADMIN.getAuthorities(mask | 1 << 20));
+    }
+
+    @Test
+    void fromRoleClaim_acceptsNameWithAndWithoutPrefix() {
+        assertSame(RoleUser.ADMIN, RoleUser.fromRoleClaim("ROLE_ADMIN"));
+        assertSame(RoleUser.USER, RoleUser.fromRoleClaim("USER"));
+    }
+
+    private static Set<String> names(List<SimpleGrantedAuthority> authorities) {
+        return authorities.stream().map(SimpleGrantedAuthority::getAuthority).collect(Collectors.toSet());
+    }
+}
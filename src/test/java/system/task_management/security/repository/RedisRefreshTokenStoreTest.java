@@ -0,0 +1,140 @@
+package system.task_management.security.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import system.task_management.exception.InvalidRefreshTokenException;
+import system.task_management.exception.RefreshTokenEntityNotFound;
+import system.task_management.security.jwt.JwtProperties;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the Lua scripts against a real Redis.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRefreshTokenStoreTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private RedisRefreshTokenStore store;
+    private String email;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setRefreshInterval(60_000);
+        store = new RedisRefreshTokenStore(redisTemplate, properties);
+        email = "user-" + UUID.randomUUID() + "@mail.com";
+    }
+
+    @Test
+    void rotate_swapsTokenOnce() {
+        String issued = store.issue(email);
+
+        String rotated = store.rotate(email, issued);
+
+        assertNotEquals(issued, rotated);
+        assertDoesNotThrow(() -> store.rotate(email, rotated));
+    }
+
+    @Test
+    void rotate_reuseOfRotatedTokenRevokesFamily() {
+        String issued = store.issue(email);
+        String rotated = store.rotate(email, issued);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> store.rotate(email, issued));
+        assertThrows(RefreshTokenEntityNotFound.class, () -> store.rotate(email, rotated));
+    }
+
+    @Test
+    void rotate_rejectsUnknownToken() {
+        store.issue(email);
+
+        assertThrows(RefreshTokenEntityNotFound.class, () -> store.rotate(email, UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void rotate_rejectsTokenOfAnotherEmail() {
+        String foreign = store.issue("other-" + UUID.randomUUID() + "@mail.com");
+        store.issue(email);
+
+        assertThrows(RefreshTokenEntityNotFound.class, () -> store.rotate(email, foreign));
+    }
+
+    @Test
+    void issue_replacesPreviousToken() {
+        String first = store.issue(email);
+        String second = store.issue(email);
+
+        assertThrows(RefreshTokenEntityNotFound.class, () -> store.rotate(email, first));
+        assertDoesNotThrow(() -> store.rotate(email, second));
+    }
+
+    @Test
+    void revoke_removesOnlyMatchingToken() {
+        String issued = store.issue(email);
+
+        store.revoke(email, UUID.randomUUID().toString());
+        String rotated = store.rotate(email, issued);
+        store.revoke(email, rotated);
+
+        assertThrows(RefreshTokenEntityNotFound.class, () -> store.rotate(email, rotated));
+    }
+
+    @Test
+    void revokeAll_removesWholeFamily() {
+        String issued = store.issue(email);
+        String rotated = store.rotate(email, issued);
+
+        store.revokeAll(email);
+
+        assertThrows(RefreshTokenEntityNotFound.class, () -> store.rotate(email, rotated));
+        assertThrows(RefreshTokenEntityNotFound.class, () -> store.rotate(email, issued));
+    }
+
+    @Test
+    void issue_setsTtlOnFamilyKeys() {
+        String issued = store.issue(email);
+        store.rotate(email, issued);
+
+        String family = "refresh:{" + email + "}";
+        assertTrue(redisTemplate.getExpire(family + ":current") > 0);
+        assertTrue(redisTemplate.getExpire(family + ":rotated") > 0);
+    }
+}
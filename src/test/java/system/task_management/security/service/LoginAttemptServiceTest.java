@@ -0,0 +1,99 @@
+package system.task_management.security.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import system.task_management.exception.TooManyLoginAttemptsException;
+import system.task_management.security.configuration.PasswordProperties;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptServiceTest {
+    private static final String EMAIL = "user@mail.com";
+    private static final String IP = "10.0.0.1";
+    private static final List<String> KEYS = List.of("login:attempts:email:" + EMAIL, "login:attempts:ip:" + IP);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordProperties properties = new PasswordProperties();
+        properties.setMaxAttemptsPerEmail(5);
+        properties.setMaxAttemptsPerIp(50);
+        properties.setAttemptsWindow(300);
+        loginAttemptService = new LoginAttemptService(redisTemplate, properties);
+    }
+
+    @Test
+    void checkAllowed_passesWithoutCounters() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, null));
+
+        assertDoesNotThrow(() -> loginAttemptService.checkAllowed(EMAIL, IP));
+    }
+
+    @Test
+    void checkAllowed_passesBelowLimits() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(KEYS)).thenReturn(List.of("4", "49"));
+
+        assertDoesNotThrow(() -> loginAttemptService.checkAllowed(EMAIL, IP));
+    }
+
+    @Test
+    void checkAllowed_rejectsAtEmailLimit() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList("5", null));
+
+        TooManyLoginAttemptsException exception = assertThrows(TooManyLoginAttemptsException.class,
+                () -> loginAttemptService.checkAllowed(EMAIL, IP));
+        assertTrue(exception.getMessage().contains(EMAIL));
+    }
+
+    @Test
+    void checkAllowed_rejectsAtIpLimit() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList("1", "50"));
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> loginAttemptService.checkAllowed(EMAIL, IP));
+    }
+
+    @Test
+    void recordFailure_incrementsEachCounterWithWindowInOneScript() {
+        loginAttemptService.recordFailure(EMAIL, IP);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEYS.get(0))), eq("300"));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEYS.get(1))), eq("300"));
+        verifyNoMoreInteractions(redisTemplate);
+    }
+
+    @Test
+    void recordSuccess_resetsOnlyEmailCounter() {
+        loginAttemptService.recordSuccess(EMAIL);
+
+        verify(redisTemplate).delete(KEYS.get(0));
+        verifyNoMoreInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,124 @@
+package system.task_management.security.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import system.task_management.exception.PasswordHashingOverloadedException;
+import system.task_management.security.configuration.PasswordProperties;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * One hashing thread and a queue of one, with an encoder that blocks until released.
+ */
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash:" + invocation.getArgument(0);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void encode_rejectsImmediatelyWhenThreadAndQueueAreBusy() throws Exception {
+        PasswordHashingService service = service(5000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("first"), callers);
+        awaitGauge("password.hashing.active", 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("second"), callers);
+        awaitGauge("password.hashing.queue.size", 1);
+
+        PasswordHashingOverloadedException exception =
+                assertThrows(PasswordHashingOverloadedException.class, () -> service.encode("third"));
+        assertEquals("Password hashing queue is full", exception.getMessage());
+
+        release.countDown();
+        assertEquals("hash:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash:second", queued.get(5, TimeUnit.SECONDS));
+        service.shutdown();
+    }
+
+    @Test
+    void encode_timesOutWhileHashIsRunning() {
+        PasswordHashingService service = service(100);
+
+        PasswordHashingOverloadedException exception =
+                assertThrows(PasswordHashingOverloadedException.class, () -> service.encode("slow"));
+        assertEquals("Password hashing timed out", exception.getMessage());
+
+        release.countDown();
+        assertEquals("hash:next", service.encode("next"));
+        service.shutdown();
+    }
+
+    @Test
+    void encode_timeoutDropsTaskStillInQueue() throws Exception {
+        PasswordHashingService service = service(100);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> service.encode("first"), callers);
+        awaitGauge("password.hashing.active", 1);
+
+        assertThrows(PasswordHashingOverloadedException.class, () -> service.encode("queued"));
+        assertThrows(Exception.class, () -> running.get(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertEquals("hash:next", service.encode("next"));
+        verify(passwordEncoder, never()).encode("queued");
+        service.shutdown();
+    }
+
+    @Test
+    void matches_propagatesEncoderFailure() {
+        when(passwordEncoder.matches(anyString(), anyString())).thenThrow(new IllegalArgumentException("bad hash"));
+        PasswordHashingService service = service(5000);
+
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> service.matches("password", "not-bcrypt"));
+        assertEquals("bad hash", exception.getMessage());
+        service.shutdown();
+    }
+
+    private PasswordHashingService service(long timeout) {
+        PasswordProperties properties = new PasswordProperties();
+        properties.setHashingThreads(1);
+        properties.setHashingQueueCapacity(1);
+        properties.setHashingTimeout(timeout);
+        return new PasswordHashingService(passwordEncoder, properties, meterRegistry);
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() != expected) {
+            assertTrue(System.nanoTime() < deadline, name + " never reached " + expected);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package system.task_management.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import system.task_management.TestcontainersConfiguration;
+import system.task_management.model.OurTask;
+import system.task_management.model.TaskComment;
+import system.task_management.model.UserAccount;
+import system.task_management.model.dto.OurTaskResponseDto;
+import system.task_management.model.dto.TaskFilterDto;
+import system.task_management.model.dto.UserAccountResponseDto;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.repository.TaskSearchRepository;
+import system.task_management.security.model.RoleUser;
+import system.task_management.security.repository.RefreshTokenStore;
+import system.task_management.service.redis.TokenEpochService;
+import system.task_management.service.task.OurTaskService;
+import system.task_management.service.task.OurTaskServiceImpl;
+import system.task_management.service.task.PageCountEstimator;
+import system.task_management.service.task.TaskDtoCache;
+import system.task_management.service.user.UserAccountService;
+import system.task_management.service.user.UserAccountServiceImpl;
+import system.task_management.service.user.UserDirectory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Number of SQL statements each read endpoint issues. It must not depend on the number of tasks,
+ * performers or comments.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({TestcontainersConfiguration.class, OurTaskServiceImpl.class, UserAccountServiceImpl.class,
+        PageCountEstimator.class, TaskSearchRepository.class, UserDirectory.class, SimpleMeterRegistry.class})
+class FetchPlanStatementCountTest {
+
+    private static final int TASKS = 5;
+    private static final int PERFORMERS = 3;
+
+    @MockitoBean
+    private TokenEpochService tokenEpochService;
+
+    @MockitoBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockitoBean(name = "customRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @MockitoBean
+    private TaskDtoCache taskDtoCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OurTaskService ourTaskService;
+
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @Autowired
+    private UserDirectory userDirectory;
+
+    private Statistics statistics;
+    private Long taskId;
+    private List<Long> performerIds;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(taskDtoCache.get(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        UserAccount author = entityManager.persist(userAccount("author@mail.com"));
+        List<UserAccount> performers = new ArrayList<>();
+        for (int i = 0; i < PERFORMERS; i++) {
+            performers.add(entityManager.persist(userAccount("performer" + i + "@mail.com")));
+        }
+
+        for (int i = 0; i < TASKS; i++) {
+            OurTask task = OurTask.builder()
+                    .title("Task " + i)
+                    .description("Description " + i)
+                    .taskStatus(TaskStatus.PENDING)
+                    .taskPriority(TaskPriority.MEDIUM)
+                    .author(author)
+                    .comments(new ArrayList<>())
+                    .build();
+            for (UserAccount performer : performers) {
+                task.getComments().add(TaskComment.builder().ourTask(task).author(performer).text("Comment").build());
+                performer.getOurTasks().add(task);
+            }
+            taskId = entityManager.persist(task).getId();
+        }
+
+        performerIds = performers.stream().map(UserAccount::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void taskDetail_loadsTaskWithAuthorAndPerformersThenCommentsInOneBatch() {
+        OurTaskResponseDto task = countStatements(2, () -> ourTaskService.getTaskById(taskId));
+
+        assertEquals(PERFORMERS, task.performers().size());
+        assertEquals(PERFORMERS, task.comments().size());
+    }
+
+    @Test
+    void taskListPage_batchesCollectionsOfTheWholePage() {
+        var page = countStatements(3, () -> ourTaskService.getTasksByFilters(
+                new TaskFilterDto("", null, null, null, null, 0, 10)));
+
+        assertEquals(TASKS, page.getContent().size());
+        page.getContent().forEach(task -> assertEquals(PERFORMERS, task.performers().size()));
+    }
+
+    @Test
+    void performerListing_isSingleQuery() {
+        var performers = countStatements(1, () -> ourTaskService.getPerformersFromTaskId(taskId));
+
+        assertEquals(PERFORMERS, performers.size());
+    }
+
+    @Test
+    void taskComments_doNotLoadAuthors() {
+        var comments = countStatements(1, () -> ourTaskService.getTaskComments(taskId, 0, 10));
+
+        assertEquals(PERFORMERS, comments.getContent().size());
+    }
+
+    @Test
+    void userProfile_isSingleQueryOnceUserIsInDirectory() {
+        userDirectory.findById(performerIds.get(0));
+        UserAccountResponseDto profile = countStatements(1,
+                () -> userAccountService.getUserAccountById(performerIds.get(0)));
+
+        assertEquals(TASKS, profile.getOurTasks().size());
+    }
+
+    @Test
+    void userProfiles_areSingleQueryOnceUsersAreInDirectory() {
+        userDirectory.findAllByIds(performerIds);
+        List<UserAccountResponseDto> profiles = countStatements(1,
+                () -> userAccountService.getAllUserAccountsByIds(performerIds));
+
+        assertEquals(PERFORMERS, profiles.size());
+        profiles.forEach(profile -> assertEquals(TASKS, profile.getOurTasks().size()));
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> endpoint) {
+        statistics.clear();
+        T result = endpoint.get();
+        assertEquals(expected, statistics.getPrepareStatementCount(), "SQL statements");
+        return result;
+    }
+
+    private static UserAccount userAccount(String email) {
+        return UserAccount.builder()
+                .email(email)
+                .password("password")
+                .firstName("First")
+                .lastName("Last")
+                .role(RoleUser.USER)
+                .userAccountStatus(UserAccountStatus.ACTIVE)
+                .ourTasks(new ArrayList<>())
+                .build();
+    }
+}
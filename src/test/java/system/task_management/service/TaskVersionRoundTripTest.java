@@ -0,0 +1,134 @@
+package system.task_management.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import system.task_management.TestcontainersConfiguration;
+import system.task_management.model.OurTask;
+import system.task_management.model.UserAccount;
+import system.task_management.model.dto.OurTaskResponseDto;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.repository.OurTaskRepository;
+import system.task_management.repository.TaskSearchRepository;
+import system.task_management.repository.UserAccountRepository;
+import system.task_management.security.model.RoleUser;
+import system.task_management.security.repository.RefreshTokenStore;
+import system.task_management.service.redis.TokenEpochService;
+import system.task_management.service.task.OurTaskService;
+import system.task_management.service.task.OurTaskServiceImpl;
+import system.task_management.service.task.PageCountEstimator;
+import system.task_management.service.task.TaskDtoCache;
+import system.task_management.service.user.UserDirectory;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The version in a mutation response must be the committed one: a client sends it back as If-Match on the
+ * next PATCH. Every call commits on its own, as it does behind the controller.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestcontainersConfiguration.class, OurTaskServiceImpl.class, PageCountEstimator.class,
+        TaskSearchRepository.class, UserDirectory.class, SimpleMeterRegistry.class})
+class TaskVersionRoundTripTest {
+
+    @MockitoBean
+    private TokenEpochService tokenEpochService;
+
+    @MockitoBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockitoBean(name = "customRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @MockitoBean
+    private TaskDtoCache taskDtoCache;
+
+    @Autowired
+    private OurTaskService ourTaskService;
+
+    @Autowired
+    private OurTaskRepository ourTaskRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount admin;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        admin = userAccountRepository.save(userAccount("admin-" + suffix + "@mail.com", RoleUser.ADMIN));
+        taskId = ourTaskRepository.save(OurTask.builder()
+                .title("Task " + suffix)
+                .description("Description")
+                .taskStatus(TaskStatus.PENDING)
+                .taskPriority(TaskPriority.MEDIUM)
+                .author(admin)
+                .comments(new ArrayList<>())
+                .build()).getId();
+    }
+
+    @Test
+    void assignPerformer_returnsVersionAcceptedByNextPatch() {
+        UserAccount performer = userAccountRepository.save(
+                userAccount("performer-" + UUID.randomUUID() + "@mail.com", RoleUser.USER));
+
+        OurTaskResponseDto assigned = ourTaskService.assignPerformerToTask(taskId, performer.getId());
+
+        assertPatchAccepts(assigned.version());
+    }
+
+    @Test
+    void addComment_returnsVersionAcceptedByNextPatch() {
+        OurTaskResponseDto commented = ourTaskService.addComment(admin.getEmail(), taskId, "Comment");
+
+        assertPatchAccepts(commented.version());
+    }
+
+    @Test
+    void setStatus_returnsVersionAcceptedByNextPatch() {
+        OurTaskResponseDto updated = ourTaskService.setStatus(taskId, TaskStatus.ACTIVE);
+
+        assertPatchAccepts(updated.version());
+    }
+
+    private void assertPatchAccepts(long version) {
+        assertEquals(version, ourTaskRepository.findVersionById(taskId).orElseThrow());
+        long next = ourTaskService.updatePriority(taskId, TaskPriority.HIGH, version);
+        assertEquals(version + 1, next);
+    }
+
+    private static UserAccount userAccount(String email, RoleUser role) {
+        return UserAccount.builder()
+                .email(email)
+                .password("password")
+                .firstName("First")
+                .lastName("Last")
+                .role(role)
+                .userAccountStatus(UserAccountStatus.ACTIVE)
+                .ourTasks(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package system.task_management.service.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import system.task_management.security.jwt.TokenDigests;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistNearCacheTest {
+    private static final byte[] CHANNEL = TokenBlacklistNearCache.CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlacklistNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new TokenBlacklistNearCache(redisTemplate, listenerContainer, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void isBlacklisted_asksRedisBeforeFirstResync() {
+        when(redisTemplate.hasKey("blacklist:jti")).thenReturn(true);
+
+        assertTrue(nearCache.isBlacklisted("jti"));
+    }
+
+    @Test
+    void isBlacklisted_answersLocallyOnceInSync() {
+        sync();
+
+        assertFalse(nearCache.isBlacklisted("jti"));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void resync_loadsEntriesWithPipelinedTtl() {
+        Cursor<String> cursor = cursor("blacklist:revoked", "blacklist:gone");
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(60_000L, -2L));
+
+        nearCache.resync();
+
+        assertTrue(nearCache.isBlacklisted("revoked"));
+        assertFalse(nearCache.isBlacklisted("gone"));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void onMessage_invalidatesTokenLocally() {
+        sync();
+
+        nearCache.onMessage(event(TokenDigests.sha256("jti") + ":" + (System.currentTimeMillis() + 60_000)), null);
+
+        assertTrue(nearCache.isBlacklisted("jti"));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void onMessage_ignoresExpiredEntry() {
+        sync();
+
+        nearCache.onMessage(event(TokenDigests.sha256("jti") + ":" + (System.currentTimeMillis() - 1)), null);
+
+        assertFalse(nearCache.isBlacklisted("jti"));
+    }
+
+    @Test
+    void onMessage_fallsBackToRedisWhenEventCannotBeApplied() {
+        sync();
+
+        nearCache.onMessage(event("malformed"), null);
+
+        nearCache.isBlacklisted("jti");
+        verify(redisTemplate).hasKey("blacklist:jti");
+    }
+
+    @Test
+    void onChannelUnsubscribed_fallsBackToRedis() {
+        sync();
+
+        nearCache.onChannelUnsubscribed(CHANNEL, 0);
+
+        nearCache.isBlacklisted("jti");
+        verify(redisTemplate).hasKey("blacklist:jti");
+    }
+
+    @Test
+    void onChannelSubscribed_resyncsAndReturnsToLocalDecisions() {
+        sync();
+        nearCache.onChannelUnsubscribed(CHANNEL, 0);
+
+        nearCache.onChannelSubscribed(CHANNEL, 1);
+
+        assertFalse(nearCache.isBlacklisted("jti"));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void resync_fallsBackToRedisWhenScanFails() {
+        sync();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        nearCache.resync();
+
+        nearCache.isBlacklisted("jti");
+        verify(redisTemplate).hasKey("blacklist:jti");
+    }
+
+    @Test
+    void resync_staysOnRedisWhileListenerIsNotSubscribed() {
+        when(listenerContainer.isListening()).thenReturn(false);
+
+        nearCache.resync();
+
+        nearCache.isBlacklisted("jti");
+        verify(redisTemplate).hasKey("blacklist:jti");
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    void publish_storesLocallyAndNotifiesOtherNodes() {
+        sync();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        nearCache.publish("jti", expiresAt);
+
+        assertTrue(nearCache.isBlacklisted("jti"));
+        verify(redisTemplate).convertAndSend(TokenBlacklistNearCache.CHANNEL,
+                TokenDigests.sha256("jti") + ":" + expiresAt);
+    }
+
+    private void sync() {
+        Cursor<String> empty = cursor();
+        when(listenerContainer.isListening()).thenReturn(true);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(empty);
+        nearCache.resync();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = List.of(keys).iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        if (keys.length > 0) {
+            when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        }
+        return cursor;
+    }
+
+    private static DefaultMessage event(String body) {
+        return new DefaultMessage(CHANNEL, body.getBytes(StandardCharsets.UTF_8));
+    }
+}
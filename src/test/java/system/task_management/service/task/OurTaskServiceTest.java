@@ -2,36 +2,54 @@ package system.task_management.service.task;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
+import system.task_management.exception.InvalidCursorException;
+import system.task_management.exception.TaskNotFoundException;
+import system.task_management.exception.TaskVersionConflictException;
 import system.task_management.mapper.CustomOurTaskMapper;
 import system.task_management.mapper.CustomTaskCommentMapper;
+import system.task_management.model.CommentTimelineResponse;
 import system.task_management.model.OurTask;
 import system.task_management.model.TaskComment;
 import system.task_management.model.UserAccount;
 import system.task_management.model.dto.CommentResponseDto;
+import system.task_management.model.dto.CommentTimelineDto;
 import system.task_management.model.dto.OurTaskRequestDto;
 import system.task_management.model.dto.OurTaskResponseDto;
 import system.task_management.model.dto.TaskFilterDto;
+import system.task_management.model.dto.UserAccountSummaryDto;
 import system.task_management.model.enums.TaskPriority;
 import system.task_management.model.enums.TaskStatus;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.model.properties.PagingProperties;
 import system.task_management.repository.OurTaskRepository;
 import system.task_management.repository.TaskCommentRepository;
 import system.task_management.repository.UserAccountRepository;
 import system.task_management.security.model.RoleUser;
+import system.task_management.service.user.UserDirectory;
+import system.task_management.util.KeysetCursor;
+import system.task_management.util.TimelinePollCursor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -47,6 +65,15 @@ public class OurTaskServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Mock
+    private TaskDtoCache taskDtoCache;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    @Spy
+    private PagingProperties pagingProperties = new PagingProperties();
+
     @InjectMocks
     private OurTaskServiceImpl ourTaskService;
 
@@ -71,7 +98,8 @@ public class OurTaskServiceTest {
         ourTask.setTaskStatus(TaskStatus.PENDING);
         ourTask.setTaskPriority(TaskPriority.HIGH);
 
-        Mockito.when(userAccountRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        Mockito.when(userDirectory.findByEmail(email)).thenReturn(Optional.of(summaryOf(user)));
+        Mockito.when(userAccountRepository.getReferenceById(1L)).thenReturn(user);
         Mockito.when(ourTaskRepository.save(ourTask)).thenReturn(ourTask);
 
         OurTaskResponseDto expectedResponse = OurTaskResponseDto.builder()
@@ -82,9 +110,7 @@ public class OurTaskServiceTest {
 
         try (MockedStatic<CustomOurTaskMapper> mapperMock = Mockito.mockStatic(CustomOurTaskMapper.class)) {
             mapperMock.when(() -> CustomOurTaskMapper.createOurTask(requestDto)).thenReturn(ourTask);
-            mapperMock.when(() -> CustomOurTaskMapper.toResponseDto(ourTask)).thenReturn(expectedResponse);
-
-            Mockito.when(userAccountRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            mapperMock.when(() -> CustomOurTaskMapper.toResponseDto(ourTask, email)).thenReturn(expectedResponse);
 
             OurTaskResponseDto result = ourTaskService.createTask(requestDto);
 
@@ -171,10 +197,10 @@ public class OurTaskServiceTest {
                 .title(updatedTask.getTitle())
                 .build();
 
-        Mockito.when(ourTaskRepository.findById(taskId)).thenReturn(Optional.of(ourTask));
+        Mockito.when(ourTaskRepository.findDetailById(taskId)).thenReturn(Optional.of(ourTask));
         Mockito.when(userAccountRepository.existsById(userId)).thenReturn(true);
         Mockito.when(userAccountRepository.getReferenceById(userId)).thenReturn(performer);
-        Mockito.when(ourTaskRepository.save(any(OurTask.class))).thenReturn(updatedTask);
+        Mockito.when(ourTaskRepository.saveAndFlush(any(OurTask.class))).thenReturn(updatedTask);
 
         try (MockedStatic<CustomOurTaskMapper> mapperMock = Mockito.mockStatic(CustomOurTaskMapper.class)) {
             mapperMock.when(() -> CustomOurTaskMapper.toResponseDto(updatedTask)).thenReturn(expectedDto);
@@ -183,7 +209,7 @@ public class OurTaskServiceTest {
 
             assertEquals(taskId, result.id());
             assertEquals("Task Title", result.title());
-            Mockito.verify(ourTaskRepository).save(any(OurTask.class));
+            Mockito.verify(ourTaskRepository).saveAndFlush(any(OurTask.class));
             Mockito.verify(userAccountRepository).getReferenceById(userId);
         }
     }
@@ -220,9 +246,10 @@ public class OurTaskServiceTest {
                 .emailAuthor(email)
                 .build();
 
-        Mockito.when(userAccountRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        Mockito.when(ourTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        Mockito.when(ourTaskRepository.save(any())).thenReturn(updatedTask);
+        Mockito.when(userDirectory.findByEmail(email)).thenReturn(Optional.of(summaryOf(user)));
+        Mockito.when(userAccountRepository.getReferenceById(user.getId())).thenReturn(user);
+        Mockito.when(ourTaskRepository.findDetailById(taskId)).thenReturn(Optional.of(task));
+        Mockito.when(ourTaskRepository.saveAndFlush(any())).thenReturn(updatedTask);
 
         try (MockedStatic<CustomOurTaskMapper> mapperMock = Mockito.mockStatic(CustomOurTaskMapper.class)) {
             mapperMock.when(() -> CustomOurTaskMapper.toResponseDto(updatedTask)).thenReturn(expectedDto);
@@ -230,7 +257,7 @@ public class OurTaskServiceTest {
             OurTaskResponseDto result = ourTaskService.addComment(email, taskId, commentText);
 
             assertEquals(email, result.emailAuthor());
-            Mockito.verify(ourTaskRepository).save(any());
+            Mockito.verify(ourTaskRepository).saveAndFlush(any());
         }
     }
 
@@ -267,10 +294,10 @@ public class OurTaskServiceTest {
                 .emailAuthor(email)
                 .build();
 
-        Mockito.when(userAccountRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        Mockito.when(ourTaskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        Mockito.when(userDirectory.findByEmail(email)).thenReturn(Optional.of(summaryOf(user)));
+        Mockito.when(ourTaskRepository.findDetailById(taskId)).thenReturn(Optional.of(task));
         Mockito.when(taskCommentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        Mockito.when(ourTaskRepository.save(any())).thenReturn(updatedTask);
+        Mockito.when(ourTaskRepository.saveAndFlush(any())).thenReturn(updatedTask);
 
         try (MockedStatic<CustomOurTaskMapper> mapperMock = Mockito.mockStatic(CustomOurTaskMapper.class)) {
             mapperMock.when(() -> CustomOurTaskMapper.toResponseDto(updatedTask)).thenReturn(expectedDto);
@@ -279,7 +306,7 @@ public class OurTaskServiceTest {
 
             assertEquals(email, result.emailAuthor());
             Mockito.verify(taskCommentRepository).findById(commentId);
-            Mockito.verify(ourTaskRepository).save(any());
+            Mockito.verify(ourTaskRepository).saveAndFlush(any());
         }
     }
 
@@ -311,4 +338,143 @@ public class OurTaskServiceTest {
         }
     }
 
+    @Test
+    void updateStatus_returnsNextVersionAndEvictsCache() {
+        Mockito.when(ourTaskRepository.updateStatus(eq(1L), eq(TaskStatus.COMPLETED), eq(4L), any(Instant.class)))
+                .thenReturn(1);
+
+        assertEquals(5L, ourTaskService.updateStatus(1L, TaskStatus.COMPLETED, 4L));
+        Mockito.verify(taskDtoCache).evictAfterCommit(1L);
+    }
+
+    @Test
+    void updateStatus_staleVersionIsConflictWithCurrentVersion() {
+        Mockito.when(ourTaskRepository.updateStatus(eq(1L), eq(TaskStatus.COMPLETED), eq(4L), any(Instant.class)))
+                .thenReturn(0);
+        Mockito.when(ourTaskRepository.findVersionById(1L)).thenReturn(Optional.of(6L));
+
+        TaskVersionConflictException e = assertThrows(TaskVersionConflictException.class,
+                () -> ourTaskService.updateStatus(1L, TaskStatus.COMPLETED, 4L));
+
+        assertEquals(6L, e.getCurrentVersion());
+        Mockito.verifyNoInteractions(taskDtoCache);
+    }
+
+    @Test
+    void getTaskVersion_readsRowAndBypassesCache() {
+        Mockito.when(ourTaskRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+
+        assertEquals(7L, ourTaskService.getTaskVersion(1L));
+        assertThrows(TaskNotFoundException.class, () -> ourTaskService.getTaskVersion(2L));
+        Mockito.verifyNoInteractions(taskDtoCache);
+    }
+
+    @Test
+    void appendComment_insertsOneRowWithoutLoadingTask() {
+        UserAccount user = UserAccount.builder().id(2L).email("user@email.com").role(RoleUser.USER).build();
+        OurTask task = new OurTask();
+        task.setId(1L);
+
+        Mockito.when(userDirectory.findByEmail(user.getEmail())).thenReturn(Optional.of(summaryOf(user)));
+        Mockito.when(ourTaskRepository.incrementVersion(1L)).thenReturn(1);
+        Mockito.when(ourTaskRepository.isPerformer(1L, 2L)).thenReturn(true);
+        Mockito.when(ourTaskRepository.getReferenceById(1L)).thenReturn(task);
+        Mockito.when(userAccountRepository.getReferenceById(2L)).thenReturn(user);
+        Mockito.when(taskCommentRepository.save(any())).thenAnswer(invocation -> {
+            TaskComment comment = invocation.getArgument(0);
+            comment.setId(10L);
+            return comment;
+        });
+
+        CommentResponseDto result = ourTaskService.appendComment(user.getEmail(), 1L, "New comment");
+
+        assertEquals(10L, result.id());
+        assertEquals("New comment", result.comment());
+        assertEquals(2L, result.owner());
+        InOrder inOrder = Mockito.inOrder(ourTaskRepository);
+        inOrder.verify(ourTaskRepository).isPerformer(1L, 2L);
+        inOrder.verify(ourTaskRepository).incrementVersion(1L);
+        Mockito.verify(ourTaskRepository, Mockito.never()).findDetailById(any());
+        Mockito.verify(taskDtoCache).evictAfterCommit(1L);
+    }
+
+    @Test
+    void appendComment_rejectsMissingTaskAndNonPerformerWithoutLockingRow() {
+        UserAccount user = UserAccount.builder().id(2L).email("user@email.com").role(RoleUser.USER).build();
+        Mockito.when(userDirectory.findByEmail(user.getEmail())).thenReturn(Optional.of(summaryOf(user)));
+        Mockito.when(ourTaskRepository.isPerformer(1L, 2L)).thenReturn(false);
+        Mockito.when(ourTaskRepository.existsById(1L)).thenReturn(false);
+        Mockito.when(ourTaskRepository.isPerformer(3L, 2L)).thenReturn(false);
+        Mockito.when(ourTaskRepository.existsById(3L)).thenReturn(true);
+
+        assertThrows(TaskNotFoundException.class, () -> ourTaskService.appendComment(user.getEmail(), 1L, "text"));
+        assertThrows(AccessDeniedException.class, () -> ourTaskService.appendComment(user.getEmail(), 3L, "text"));
+        Mockito.verify(ourTaskRepository, Mockito.never()).incrementVersion(any());
+        Mockito.verifyNoInteractions(taskCommentRepository, taskDtoCache);
+    }
+
+    @Test
+    void appendComment_adminSkipsMembershipAndGetsNotFoundForMissingTask() {
+        UserAccount admin = UserAccount.builder().id(1L).email("admin@email.com").role(RoleUser.ADMIN).build();
+        Mockito.when(userDirectory.findByEmail(admin.getEmail())).thenReturn(Optional.of(summaryOf(admin)));
+        Mockito.when(ourTaskRepository.incrementVersion(5L)).thenReturn(0);
+
+        assertThrows(TaskNotFoundException.class, () -> ourTaskService.appendComment(admin.getEmail(), 5L, "text"));
+        Mockito.verify(ourTaskRepository, Mockito.never()).isPerformer(any(), any());
+        Mockito.verifyNoInteractions(taskCommentRepository, taskDtoCache);
+    }
+
+    @Test
+    void getCommentTimeline_firstSliceHasCursorsInBothDirections() {
+        Instant now = Instant.parse("2025-03-01T10:00:00Z");
+        CommentTimelineDto newest = new CommentTimelineDto(3L, "third", 2L, "First", "Last", now);
+        CommentTimelineDto middle = new CommentTimelineDto(2L, "second", 2L, "First", "Last", now.minusSeconds(1));
+        CommentTimelineDto oldest = new CommentTimelineDto(1L, "first", 2L, "First", "Last", now.minusSeconds(2));
+        Mockito.when(taskCommentRepository.findTimeline(1L, Limit.of(3))).thenReturn(List.of(newest, middle, oldest));
+
+        CommentTimelineResponse result = ourTaskService.getCommentTimeline(1L, null, null, 2);
+
+        assertEquals(List.of(newest, middle), result.content());
+        assertTrue(result.hasMore());
+        assertEquals(new KeysetCursor(middle.createdAt(), 2L), KeysetCursor.decode(result.olderCursor()));
+        assertEquals(new TimelinePollCursor(newest.createdAt(), 3L, Set.of(3L, 2L)),
+                TimelinePollCursor.decode(result.newerCursor()));
+    }
+
+    @Test
+    void getCommentTimeline_pollReturnsLateCommitBehindCursorOnce() {
+        Instant now = Instant.parse("2025-03-01T10:00:00Z");
+        CommentTimelineDto seen = new CommentTimelineDto(5L, "seen", 2L, "First", "Last", now.minusSeconds(2));
+        CommentTimelineDto late = new CommentTimelineDto(4L, "late", 2L, "First", "Last", now.minusSeconds(1));
+        CommentTimelineDto newest = new CommentTimelineDto(6L, "newest", 2L, "First", "Last", now);
+        CommentTimelineDto newer = new CommentTimelineDto(7L, "newer", 2L, "First", "Last", now.plusSeconds(1));
+        TimelinePollCursor cursor = new TimelinePollCursor(now, 6L, Set.of(5L, 6L));
+        Mockito.when(taskCommentRepository.findTimelineSince(1L, now.minusSeconds(5), Limit.of(23)))
+                .thenReturn(List.of(seen, late, newest, newer));
+
+        CommentTimelineResponse result = ourTaskService.getCommentTimeline(1L, null, cursor.encode(), 20);
+
+        assertEquals(List.of(late, newer), result.content());
+        assertEquals(new TimelinePollCursor(newer.createdAt(), 7L, Set.of(4L, 5L, 6L, 7L)),
+                TimelinePollCursor.decode(result.newerCursor()));
+    }
+
+    @Test
+    void getCommentTimeline_emptyPollKeepsCursorAndBothCursorsAreRejected() {
+        TimelinePollCursor cursor = new TimelinePollCursor(Instant.parse("2025-03-01T10:00:00Z"), 3L, Set.of(3L));
+        Mockito.when(taskCommentRepository.findTimelineSince(1L, cursor.createdAt().minusSeconds(5), Limit.of(22)))
+                .thenReturn(List.of());
+
+        CommentTimelineResponse result = ourTaskService.getCommentTimeline(1L, null, cursor.encode(), 20);
+
+        assertTrue(result.content().isEmpty());
+        assertEquals(cursor.encode(), result.newerCursor());
+        assertThrows(InvalidCursorException.class,
+                () -> ourTaskService.getCommentTimeline(1L, cursor.encode(), cursor.encode(), 20));
+    }
+
+    private static UserAccountSummaryDto summaryOf(UserAccount user) {
+        return new UserAccountSummaryDto(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                user.getRole(), UserAccountStatus.ACTIVE, null, null);
+    }
 }
@@ -0,0 +1,89 @@
+package system.task_management.service.task;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import system.task_management.exception.InvalidBulkRequestException;
+import system.task_management.model.dto.BulkTaskRequestDto;
+import system.task_management.model.dto.BulkTaskResultDto;
+import system.task_management.model.dto.TaskFilterDto;
+import system.task_management.model.enums.BulkItemOutcome;
+import system.task_management.model.enums.TaskStatus;
+import system.task_management.model.properties.BulkProperties;
+import system.task_management.repository.OurTaskRepository;
+import system.task_management.repository.TaskBulkRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBulkServiceImplTest {
+
+    @Mock
+    private TaskBulkRepository taskBulkRepository;
+
+    @Mock
+    private OurTaskRepository ourTaskRepository;
+
+    @Mock
+    private TaskDtoCache taskDtoCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskBulkServiceImpl taskBulkService;
+
+    @BeforeEach
+    void setUp() {
+        BulkProperties properties = new BulkProperties();
+        properties.setChunkSize(2);
+        properties.setMaxTasks(5);
+        taskBulkService = new TaskBulkServiceImpl(taskBulkRepository, ourTaskRepository, taskDtoCache,
+                transactionTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void setStatus_reportsOutcomePerTaskAndIsolatesFailedChunk() {
+        Mockito.when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        Mockito.when(taskBulkRepository.setStatus(List.of(1L, 2L), TaskStatus.COMPLETED))
+                .thenReturn(Map.of(1L, BulkItemOutcome.UPDATED, 2L, BulkItemOutcome.UNCHANGED));
+        Mockito.when(taskBulkRepository.setStatus(List.of(3L, 4L), TaskStatus.COMPLETED))
+                .thenThrow(new IllegalStateException("deadlock"));
+        Mockito.when(taskBulkRepository.setStatus(List.of(5L), TaskStatus.COMPLETED))
+                .thenReturn(Map.of());
+
+        BulkTaskResultDto result = taskBulkService.setStatus(
+                new BulkTaskRequestDto(List.of(1L, 2L, 3L, 4L, 5L, 1L), null, TaskStatus.COMPLETED, null, null));
+
+        assertEquals(5, result.requested());
+        assertEquals(3, result.chunks());
+        assertEquals(1, result.updated());
+        assertEquals(1, result.unchanged());
+        assertEquals(2, result.failed());
+        assertEquals(1, result.notFound());
+        assertEquals(BulkItemOutcome.FAILED, result.items().get(2).outcome());
+        Mockito.verify(taskDtoCache).evictAllAfterCommit(List.of(1L));
+    }
+
+    @Test
+    void setStatus_rejectsBothSelectorsAndTooManyTasks() {
+        TaskFilterDto filter = new TaskFilterDto(null, TaskStatus.PENDING, null, null, null, 0, 10);
+
+        assertThrows(InvalidBulkRequestException.class, () -> taskBulkService.setStatus(
+                new BulkTaskRequestDto(List.of(1L), filter, TaskStatus.COMPLETED, null, null)));
+        assertThrows(InvalidBulkRequestException.class, () -> taskBulkService.setStatus(
+                new BulkTaskRequestDto(List.of(1L, 2L, 3L, 4L, 5L, 6L), null, TaskStatus.COMPLETED, null, null)));
+        Mockito.verifyNoInteractions(taskBulkRepository);
+    }
+}
@@ -0,0 +1,86 @@
+package system.task_management.service.task;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import system.task_management.model.dto.TaskExportRowDto;
+import system.task_management.model.dto.TaskFilterDto;
+import system.task_management.model.enums.TaskFileFormat;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskStatus;
+import system.task_management.model.properties.BulkProperties;
+import system.task_management.repository.OurTaskRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceImplTest {
+
+    private static final Instant CREATED = Instant.parse("2025-03-01T10:15:30Z");
+    private static final TaskFilterDto FILTER = new TaskFilterDto(null, TaskStatus.PENDING, null, null, null, 0, 10);
+
+    @Mock
+    private OurTaskRepository ourTaskRepository;
+
+    private TaskExportServiceImpl taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        BulkProperties properties = new BulkProperties();
+        properties.setExportFetchSize(2);
+        taskExportService = new TaskExportServiceImpl(ourTaskRepository, properties,
+                Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void exportTasks_writesCsvWithEscapedFieldsAndClosesStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Mockito.when(ourTaskRepository.streamExportRows(any(), eq(FILTER.toSort()), eq(2)))
+                .thenReturn(Stream.of(
+                        new TaskExportRowDto(1L, "Plain", "one line", TaskStatus.PENDING, TaskPriority.LOW,
+                                "a@mail.com", CREATED, null, 0L),
+                        new TaskExportRowDto(2L, "Quoted, title", "say \"hi\"\nbye", TaskStatus.PENDING,
+                                TaskPriority.HIGH, null, CREATED, CREATED, 3L))
+                        .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(FILTER, TaskFileFormat.CSV, out);
+
+        assertEquals("""
+                id,title,description,status,priority,authorEmail,createdAt,updatedAt,version
+                1,Plain,one line,PENDING,LOW,a@mail.com,2025-03-01T10:15:30Z,,0
+                2,"Quoted, title","say ""hi""
+                bye",PENDING,HIGH,,2025-03-01T10:15:30Z,2025-03-01T10:15:30Z,3
+                """, out.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportTasks_writesOneJsonObjectPerLine() throws IOException {
+        Mockito.when(ourTaskRepository.streamExportRows(any(), any(), eq(2)))
+                .thenReturn(Stream.of(new TaskExportRowDto(1L, "Plain", "one line", TaskStatus.PENDING,
+                        TaskPriority.LOW, "a@mail.com", CREATED, null, 0L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(FILTER, TaskFileFormat.NDJSON, out);
+
+        assertEquals("{\"id\":1,\"title\":\"Plain\",\"description\":\"one line\",\"status\":\"PENDING\","
+                + "\"priority\":\"LOW\",\"authorEmail\":\"a@mail.com\",\"createdAt\":\"2025-03-01T10:15:30Z\","
+                + "\"updatedAt\":null,\"version\":0}\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
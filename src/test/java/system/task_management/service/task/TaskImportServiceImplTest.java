@@ -0,0 +1,134 @@
+package system.task_management.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import system.task_management.exception.InvalidBulkRequestException;
+import system.task_management.model.dto.TaskImportErrorDto;
+import system.task_management.model.dto.TaskImportResultDto;
+import system.task_management.model.dto.UserAccountSummaryDto;
+import system.task_management.model.enums.TaskFileFormat;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.UserAccountStatus;
+import system.task_management.model.properties.BulkProperties;
+import system.task_management.repository.TaskBulkRepository;
+import system.task_management.repository.TaskBulkRepository.NewTaskRow;
+import system.task_management.security.model.RoleUser;
+import system.task_management.service.user.UserDirectory;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceImplTest {
+
+    private static final UserAccountSummaryDto AUTHOR = new UserAccountSummaryDto(7L, "admin@mail.com", "First",
+            "Last", RoleUser.ADMIN, UserAccountStatus.ACTIVE, Instant.EPOCH, Instant.EPOCH);
+
+    @Mock
+    private TaskBulkRepository taskBulkRepository;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskImportServiceImpl taskImportService;
+
+    @BeforeEach
+    void setUp() {
+        BulkProperties properties = new BulkProperties();
+        properties.setImportChunkSize(2);
+        properties.setImportMaxErrors(10);
+        taskImportService = new TaskImportServiceImpl(taskBulkRepository, userDirectory, transactionTemplate,
+                properties, new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void importTasks_ndjsonReportsRowErrorsAndKeepsGoing() {
+        Mockito.when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        Mockito.when(userDirectory.findAllByEmails(anyCollection())).thenReturn(List.of(AUTHOR));
+        Mockito.when(taskBulkRepository.insertTasks(any()))
+                .thenReturn(new HashSet<>(Set.of("First task")))
+                .thenReturn(new HashSet<>(Set.of("Third task")));
+
+        TaskImportResultDto result = taskImportService.importTasks(body("""
+                {"authorEmail":"admin@mail.com","title":"First task","description":"desc","priority":"HIGH"}
+                {"authorEmail":"admin@mail.com","title":
+                {"authorEmail":"admin@mail.com","title":"Existing task","description":"desc","priority":"LOW"}
+
+                {"authorEmail":"ghost@mail.com","title":"Ghost task","description":"desc","priority":"LOW"}
+                {"authorEmail":"admin@mail.com","title":"Third task","description":"desc","priority":"LOW"}
+                {"authorEmail":"admin@mail.com","title":"No priority","description":"desc"}
+                """), TaskFileFormat.NDJSON);
+
+        assertEquals(6, result.received());
+        assertEquals(2, result.imported());
+        assertEquals(1, result.duplicates());
+        assertEquals(3, result.invalid());
+        assertEquals(0, result.failed());
+        assertEquals(2, result.chunks());
+        assertFalse(result.errorsTruncated());
+        assertEquals(List.of(2L, 3L, 5L, 7L), result.errors().stream().map(TaskImportErrorDto::line).sorted().toList());
+        Mockito.verify(taskBulkRepository).insertTasks(List.of(
+                new NewTaskRow("First task", "desc", TaskPriority.HIGH, 7L),
+                new NewTaskRow("Existing task", "desc", TaskPriority.LOW, 7L)));
+    }
+
+    @Test
+    void importTasks_csvMapsColumnsByHeaderAndIsolatesFailedChunk() {
+        Mockito.when(transactionTemplate.execute(any()))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        Mockito.when(userDirectory.findAllByEmails(anyCollection())).thenReturn(List.of(AUTHOR));
+        Mockito.when(taskBulkRepository.insertTasks(any())).thenReturn(new HashSet<>(Set.of("Third task")));
+
+        TaskImportResultDto result = taskImportService.importTasks(body("""
+                priority,title,description,authorEmail
+                high,First task,"desc, with comma",admin@mail.com
+                low,Second task,desc,admin@mail.com
+                urgent,Bad priority,desc,admin@mail.com
+                LOW,Third task,desc,admin@mail.com
+                """), TaskFileFormat.CSV);
+
+        assertEquals(4, result.received());
+        assertEquals(1, result.imported());
+        assertEquals(2, result.failed());
+        assertEquals(1, result.invalid());
+        assertEquals("unknown priority: urgent", result.errors().stream()
+                .filter(error -> error.line() == 4).findFirst().orElseThrow().message());
+    }
+
+    @Test
+    void importTasks_csvWithoutRequiredColumnsIsRejected() {
+        assertThrows(InvalidBulkRequestException.class, () -> taskImportService.importTasks(
+                body("title,description\nTask,desc\n"), TaskFileFormat.CSV));
+        Mockito.verifyNoInteractions(taskBulkRepository);
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,209 @@
+package system.task_management.specification;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import system.task_management.TestcontainersConfiguration;
+import system.task_management.model.dto.TaskFilterDto;
+import system.task_management.model.enums.TaskPriority;
+import system.task_management.model.enums.TaskSortField;
+import system.task_management.model.enums.TaskStatus;
+import system.task_management.repository.OurTaskRepository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Runs the page query of each common filter combination, re-executes the captured SQL with the same
+ * parameters under EXPLAIN and fails if Postgres would read our_task or user_task sequentially.
+ * Totals are not checked here: broad counts may legitimately scan and are covered by the count modes.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestcontainersConfiguration.class, TaskFilterQueryPlanTest.CapturingDataSourceConfig.class})
+class TaskFilterQueryPlanTest {
+
+    private static final int USERS = 1_000;
+    private static final int TASKS = 100_000;
+    private static final int ASSIGNMENTS = 200_000;
+    private static final LocalDate DAY = LocalDate.now(ZoneOffset.UTC).minusDays(10);
+
+    private static boolean seeded;
+
+    @Autowired
+    private OurTaskRepository ourTaskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CapturedQueries capturedQueries;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO user_account (email, password, first_name, last_name, role, status, created_at, updated_at)
+                SELECT 'user' || g || '@mail.com', 'password', 'First', 'Last', 'USER', 'ACTIVE', now(), now()
+                FROM generate_series(1, ?) g""", USERS);
+        jdbcTemplate.update("""
+                INSERT INTO our_task (title, description, status, priority, author_id, created_at, updated_at)
+                SELECT 'task ' || g, 'description ' || g,
+                       1 + g % 5, 1 + g % 3,
+                       u.min_id + g % ?, now() - g * interval '1 minute', now() - g * interval '1 minute' + interval '1 hour'
+                FROM generate_series(1, ?) g, (SELECT min(id) AS min_id FROM user_account) u""", USERS, TASKS);
+        jdbcTemplate.update("""
+                INSERT INTO user_task (user_id, task_id)
+                SELECT u.min_id + floor(random() * ?)::int, t.min_id + floor(random() * ?)::int
+                FROM generate_series(1, ?) g,
+                     (SELECT min(id) AS min_id FROM user_account) u,
+                     (SELECT min(id) AS min_id FROM our_task) t""", USERS, TASKS, ASSIGNMENTS);
+        jdbcTemplate.execute("VACUUM ANALYZE");
+        seeded = true;
+    }
+
+    static Stream<Arguments> commonFilters() {
+        return Stream.of(
+                Arguments.of("status", filter(null, Set.of(TaskStatus.ACTIVE), null, null, null, null, null, null)),
+                Arguments.of("statuses and priority", filter(null, Set.of(TaskStatus.ACTIVE, TaskStatus.PENDING),
+                        Set.of(TaskPriority.HIGH), null, null, null, null, null)),
+                Arguments.of("author", filter("user42@mail.com", null, null, null, null, null, null, null)),
+                Arguments.of("performer", filter(null, null, null, Set.of(42L), null, null, null, null)),
+                Arguments.of("status and created day", filter(null, Set.of(TaskStatus.ACTIVE), null, null,
+                        DAY, DAY, null, null)),
+                Arguments.of("updated day by updatedAt", filter(null, null, null, null, null, null,
+                        DAY, TaskSortField.UPDATED_AT)),
+                Arguments.of("title", new TaskFilterDto(null, null, null, null, "task 4242", 0, 20))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("commonFilters")
+    void commonFilter_pageQueryDoesNotScanSequentially(String name, TaskFilterDto filter) {
+        capturedQueries.clear();
+        ourTaskRepository.findAll(TaskSpecifications.fromFilter(filter),
+                PageRequest.of(filter.page(), filter.size(), filter.toSort()));
+
+        CapturedQuery pageQuery = capturedQueries.snapshot().stream()
+                .filter(query -> !query.sql().startsWith("select count("))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(pageQuery, "page query was not captured");
+
+        String plan = explain(pageQuery);
+        assertFalse(plan.contains("Seq Scan on our_task"), name + " scans our_task:\n" + plan);
+        assertFalse(plan.contains("Seq Scan on user_task"), name + " scans user_task:\n" + plan);
+    }
+
+    private String explain(CapturedQuery query) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+                for (ParameterSetOperation operation : query.parameters()) {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot replay parameters of " + query.sql(), e);
+            }
+        });
+    }
+
+    private static TaskFilterDto filter(String email, Set<TaskStatus> statuses, Set<TaskPriority> priorities,
+                                        Set<Long> performerIds, LocalDate createdFrom, LocalDate createdTo,
+                                        LocalDate updatedDay, TaskSortField sortBy) {
+        return new TaskFilterDto(email, null, createdFrom, createdTo, null, 0, 20,
+                statuses, priorities, performerIds, updatedDay, updatedDay, sortBy, Sort.Direction.DESC);
+    }
+
+    record CapturedQuery(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    static class CapturedQueries implements QueryExecutionListener {
+        private final List<CapturedQuery> queries = new ArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                        ? List.of()
+                        : List.copyOf(queryInfo.getParametersList().get(0));
+                queries.add(new CapturedQuery(queryInfo.getQuery(), parameters));
+            }
+        }
+
+        synchronized List<CapturedQuery> snapshot() {
+            return List.copyOf(queries);
+        }
+
+        synchronized void clear() {
+            queries.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static CapturedQueries capturedQueries() {
+            return new CapturedQueries();
+        }
+
+        @Bean
+        static BeanPostProcessor capturingDataSource(CapturedQueries capturedQueries) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(capturedQueries).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
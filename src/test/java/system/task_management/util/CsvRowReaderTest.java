@@ -0,0 +1,39 @@
+package system.task_management.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRowReaderTest {
+
+    @Test
+    void next_handlesQuotesEscapesAndMultilineFields() throws IOException {
+        CsvRowReader reader = reader("a,b\n\n\"x, y\",\"say \"\"hi\"\"\"\n\"two\nlines\",\n");
+
+        assertEquals(List.of("a", "b"), reader.next());
+        assertEquals(1, reader.getRecordLine());
+        assertEquals(List.of("x, y", "say \"hi\""), reader.next());
+        assertEquals(3, reader.getRecordLine());
+        assertEquals(List.of("two\nlines", ""), reader.next());
+        assertEquals(4, reader.getRecordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_rejectsUnterminatedQuote() throws IOException {
+        CsvRowReader reader = reader("\"open,field\n");
+
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+
+    private static CsvRowReader reader(String csv) {
+        return new CsvRowReader(new BufferedReader(new StringReader(csv)));
+    }
+}
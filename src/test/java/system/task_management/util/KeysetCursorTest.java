@@ -0,0 +1,35 @@
+package system.task_management.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import system.task_management.exception.InvalidCursorException;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecode_roundTrip() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-03-01T10:15:30.123456Z"), 42L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void toScrollPosition_containsSortKeys() {
+        Instant createdAt = Instant.parse("2025-03-01T10:15:30Z");
+        KeysetScrollPosition position = new KeysetCursor(createdAt, 7L).toScrollPosition();
+
+        assertEquals(createdAt, position.getKeys().get("createdAt"));
+        assertEquals(7L, position.getKeys().get("id"));
+    }
+
+    @Test
+    void decode_rejectsGarbage() {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("not a cursor"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("bm90LWEtY3Vyc29y"));
+    }
+}
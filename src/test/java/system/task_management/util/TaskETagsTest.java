@@ -0,0 +1,22 @@
+package system.task_management.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskETagsTest {
+
+    @Test
+    void parseTaskVersion_readsOwnTag() {
+        assertEquals(7L, TaskETags.parseTaskVersion(3L, TaskETags.task(3L, 7L)));
+    }
+
+    @Test
+    void parseTaskVersion_foreignOrMalformedTagMatchesNothing() {
+        assertEquals(-1L, TaskETags.parseTaskVersion(3L, TaskETags.task(4L, 7L)));
+        assertEquals(-1L, TaskETags.parseTaskVersion(3L, TaskETags.comments(3L, 7L)));
+        assertEquals(-1L, TaskETags.parseTaskVersion(3L, "W/" + TaskETags.task(3L, 7L)));
+        assertEquals(-1L, TaskETags.parseTaskVersion(3L, "\"task-3-vx\""));
+        assertEquals(-1L, TaskETags.parseTaskVersion(3L, "*"));
+    }
+}
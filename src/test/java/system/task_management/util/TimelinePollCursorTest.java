@@ -0,0 +1,39 @@
+package system.task_management.util;
+
+import org.junit.jupiter.api.Test;
+import system.task_management.exception.InvalidCursorException;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimelinePollCursorTest {
+
+    @Test
+    void encodeDecode_roundTrip() {
+        Instant createdAt = Instant.parse("2025-03-01T10:15:30.123456Z");
+        TimelinePollCursor cursor = new TimelinePollCursor(createdAt, 42L, Set.of(40L, 42L, 41L));
+        TimelinePollCursor empty = new TimelinePollCursor(createdAt, 42L, Set.of());
+
+        assertEquals(cursor, TimelinePollCursor.decode(cursor.encode()));
+        assertEquals(empty, TimelinePollCursor.decode(empty.encode()));
+    }
+
+    @Test
+    void encode_isIndependentOfSetOrder() {
+        Instant createdAt = Instant.parse("2025-03-01T10:15:30Z");
+
+        assertEquals(new TimelinePollCursor(createdAt, 3L, Set.of(1L, 2L, 3L)).encode(),
+                new TimelinePollCursor(createdAt, 3L, Set.of(3L, 2L, 1L)).encode());
+    }
+
+    @Test
+    void decode_rejectsGarbage() {
+        String keyset = new KeysetCursor(Instant.parse("2025-03-01T10:15:30Z"), 3L).encode();
+
+        assertThrows(InvalidCursorException.class, () -> TimelinePollCursor.decode("not a cursor"));
+        assertThrows(InvalidCursorException.class, () -> TimelinePollCursor.decode(keyset));
+    }
+}